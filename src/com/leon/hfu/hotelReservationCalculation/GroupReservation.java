@@ -0,0 +1,220 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Represents a group of {@link Reservation} objects on several {@link ReservableObject}
+ * instances which are booked all-or-nothing.
+ * Legs are collected with {@link #addLeg(Date, Date, int, ReservableObject)} and committed
+ * with {@link #book()}. While booking, the locks of all involved {@link ReservableObject}
+ * instances are acquired in ascending lock order, so concurrent group bookings can't deadlock
+ * and objects not part of the group are never locked.
+ * 
+ * @author	Stefan Hahn
+ */
+public class GroupReservation implements Showable {
+	private List<Reservation> legs = new ArrayList<>();
+	private boolean booked = false;
+	
+	/**
+	 * Adds a new leg to this <code>GroupReservation</code>.
+	 * The leg is validated immediately, but not booked before {@link #book()} is called.
+	 * 
+	 * @param	arrival					Arrival date of the leg
+	 * @param	departure				Departure date of the leg
+	 * @param	persons					Persons of the leg
+	 * @param	reservableObject		{@link ReservableObject} to reserve
+	 * @return							Unbooked {@link Reservation} representing the leg
+	 * @throws	ReservationException	Thrown if this group is already booked, arrival in past or departure before arrival
+	 */
+	public Reservation addLeg(Date arrival, Date departure, int persons, ReservableObject reservableObject) throws ReservationException {
+		if (this.booked) {
+			throw new ReservationException("Gruppenreservierung ist bereits gebucht.");
+		}
+		
+		Reservation leg = new Reservation(arrival, departure, persons, reservableObject, false);
+		this.legs.add(leg);
+		
+		return leg;
+	}
+	
+	/**
+	 * Adds a new leg to this <code>GroupReservation</code>.
+	 * 
+	 * @param	arrival					Arrival date of the leg
+	 * @param	nights					Nights to sleep over of the leg
+	 * @param	persons					Persons of the leg
+	 * @param	reservableObject		{@link ReservableObject} to reserve
+	 * @return							Unbooked {@link Reservation} representing the leg
+	 * @throws	ReservationException	Thrown if this group is already booked, arrival in past or departure before arrival
+	 * @see		#addLeg(Date, Date, int, ReservableObject)
+	 */
+	public Reservation addLeg(Date arrival, int nights, int persons, ReservableObject reservableObject) throws ReservationException {
+		return this.addLeg(arrival, arrival.getFollowingDate(nights), persons, reservableObject);
+	}
+	
+	/**
+	 * Books all legs of this <code>GroupReservation</code>.
+	 * Either every leg is booked or, if any leg arrives in the past or concurs with an existing
+	 * reservation or another leg, none of them. All legs are validated while holding the locks
+	 * before the first one is stored, so no leg is ever visible unless the whole group is booked.
+	 * 
+	 * @throws	ReservationException	Thrown if this group is already booked, empty, a leg arrives in the past or concurs with another reservation
+	 */
+	public void book() throws ReservationException {
+		if (this.booked) {
+			throw new ReservationException("Gruppenreservierung ist bereits gebucht.");
+		}
+		
+		if (this.legs.isEmpty()) {
+			throw new ReservationException("Gruppenreservierung enthält keine Reservierungen.");
+		}
+		
+		List<ReservableObject> objects = this.getLockedObjects();
+		
+		for (ReservableObject object: objects) {
+			object.getLock().lock();
+		}
+		
+		try {
+			Date currentDate = Date.getCurrentDate();
+			
+			for (int i = 0; i < this.legs.size(); i++) {
+				Reservation leg = this.legs.get(i);
+				
+				if (currentDate.compareTo(leg.getArrivalDate()) > 0) {
+					throw new ReservationException("Reservierung in der Vergangenheit nicht möglich.");
+				}
+				
+				leg.getReservableObject().checkReservation(leg);
+				
+				for (int j = 0; j < i; j++) {
+					Reservation otherLeg = this.legs.get(j);
+					
+					if (otherLeg.getReservableObject() == leg.getReservableObject() && ReservableObject.overlaps(leg, otherLeg)) {
+						throw new ConcurrentReservationException(otherLeg);
+					}
+				}
+			}
+			
+			for (Reservation leg: this.legs) {
+				leg.getReservableObject().putReservation(leg);
+			}
+			
+			this.booked = true;
+		}
+		finally {
+			for (int i = objects.size() - 1; i >= 0; i--) {
+				objects.get(i).getLock().unlock();
+			}
+		}
+	}
+	
+	/**
+	 * Cancels all legs of this booked <code>GroupReservation</code>.
+	 * Either every leg is cancelled or, if any leg was already cancelled or archived, none of them.
+	 * Listeners of waiting requests booked by the cancellation are told after all locks are released.
+	 * 
+	 * @throws	ReservationException	Thrown if this group isn't booked or a leg isn't linked to its {@link ReservableObject} anymore
+	 */
+	public void cancel() throws ReservationException {
+		if (!this.booked) {
+			throw new ReservationException("Gruppenreservierung ist nicht gebucht.");
+		}
+		
+		List<ReservableObject> objects = this.getLockedObjects();
+		List<WaitingReservation> settledRequests = new ArrayList<>();
+		
+		for (ReservableObject object: objects) {
+			object.getLock().lock();
+		}
+		
+		try {
+			for (Reservation leg: this.legs) {
+				if (!leg.getReservableObject().hasReservation(leg)) {
+					throw new ReservationException("Reservierung " + leg.getID() + " der Gruppenreservierung ist nicht mehr gültig.");
+				}
+			}
+			
+			for (Reservation leg: this.legs) {
+				leg.getReservableObject().cancelReservation(leg, settledRequests);
+			}
+			
+			this.booked = false;
+		}
+		finally {
+			for (int i = objects.size() - 1; i >= 0; i--) {
+				objects.get(i).getLock().unlock();
+			}
+		}
+		
+		ReservableObject.notifyWaiting(settledRequests);
+	}
+	
+	/**
+	 * Returns all legs of this <code>GroupReservation</code>.
+	 * 
+	 * @return							Unmodifiable list of legs
+	 */
+	public List<Reservation> getLegs() {
+		return Collections.unmodifiableList(this.legs);
+	}
+	
+	/**
+	 * Returns whether this <code>GroupReservation</code> is booked.
+	 * 
+	 * @return							<code>true</code> if all legs are booked
+	 */
+	public boolean isBooked() {
+		return this.booked;
+	}
+	
+	/**
+	 * Calculates after tax price for all legs of this <code>GroupReservation</code>.
+	 * 
+	 * @return							Rounded after tax price
+	 */
+	public double getAfterTaxPrice() {
+		double price = 0;
+		
+		for (Reservation leg: this.legs) {
+			price += leg.getAfterTaxPrice();
+		}
+		
+		return Reservation.roundPrice(price);
+	}
+	
+	/**
+	 * Returns the distinct {@link ReservableObject} instances of all legs in ascending lock order.
+	 * 
+	 * @return							{@link ReservableObject} instances in lock order
+	 */
+	private List<ReservableObject> getLockedObjects() {
+		TreeMap<Long, ReservableObject> objects = new TreeMap<>();
+		
+		for (Reservation leg: this.legs) {
+			objects.put(leg.getReservableObject().getLockOrder(), leg.getReservableObject());
+		}
+		
+		return new ArrayList<>(objects.values());
+	}
+	
+	/**
+	 * @see	Showable#show()
+	 */
+	@Override
+	public void show() {
+		System.out.println("Gruppenreservierung: " + (this.booked ? "gebucht" : "nicht gebucht"));
+		System.out.println("Reservierungen: " + this.legs.size());
+		System.out.println("Gesamtpreis: " + Reservation.formatPrice(this.getAfterTaxPrice()));
+		
+		for (Reservation leg: this.legs) {
+			System.out.println(leg.getInformation());
+		}
+	}
+}
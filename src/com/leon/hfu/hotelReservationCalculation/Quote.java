@@ -0,0 +1,113 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+/**
+ * Represents a non-binding price quote for staying a given amount of nights in a
+ * {@link ReservableObject}. Unlike a {@link Reservation} a <code>Quote</code> doesn't
+ * reserve anything.
+ * 
+ * @author	Stefan Hahn
+ * @see		ReservableObject#quote(com.leon.hfu.customDate.Date, int)
+ */
+public class Quote implements Showable {
+	private ReservableObject quotedReservableObject = null;
+	private double basePrice = 0;
+	private int nights = 0;
+	private double preTaxPrice = 0;
+	private double salesTax = 0;
+	private double discount = 0;
+	private double afterTaxPrice = 0;
+	
+	/**
+	 * Creates a new <code>Quote</code> from the prices of the given unregistered {@link Reservation}.
+	 * 
+	 * @param	reservation				Unregistered {@link Reservation} object
+	 * @param	basePrice				Base price the prices were calculated with
+	 */
+	Quote(Reservation reservation, double basePrice) {
+		this.quotedReservableObject = reservation.getReservableObject();
+		this.basePrice = basePrice;
+		this.nights = reservation.getNights();
+		this.preTaxPrice = reservation.getPreTaxPrice();
+		this.salesTax = reservation.getSalesTax();
+		this.discount = reservation.getDiscount();
+		this.afterTaxPrice = reservation.getAfterTaxPrice();
+	}
+	
+	/**
+	 * Gets the quoted {@link ReservableObject}.
+	 * 
+	 * @return							Quoted object
+	 */
+	public ReservableObject getReservableObject() {
+		return this.quotedReservableObject;
+	}
+	
+	/**
+	 * Gets the base price this <code>Quote</code> was calculated with.
+	 * 
+	 * @return							Base price
+	 */
+	public double getBasePrice() {
+		return this.basePrice;
+	}
+	
+	/**
+	 * Gets the nights to sleep over of this <code>Quote</code>.
+	 * 
+	 * @return							Nights to sleep over
+	 */
+	public int getNights() {
+		return this.nights;
+	}
+	
+	/**
+	 * Gets the pre tax price of this <code>Quote</code>.
+	 * 
+	 * @return							Rounded pre tax price
+	 * @see		Reservation#getPreTaxPrice()
+	 */
+	public double getPreTaxPrice() {
+		return this.preTaxPrice;
+	}
+	
+	/**
+	 * Gets the sales tax of this <code>Quote</code>.
+	 * 
+	 * @return							Rounded sales tax
+	 * @see		Reservation#getSalesTax()
+	 */
+	public double getSalesTax() {
+		return this.salesTax;
+	}
+	
+	/**
+	 * Gets the discount of this <code>Quote</code>.
+	 * 
+	 * @return							Rounded discount
+	 * @see		Reservation#getDiscount()
+	 */
+	public double getDiscount() {
+		return this.discount;
+	}
+	
+	/**
+	 * Gets the after tax price of this <code>Quote</code>.
+	 * 
+	 * @return							Rounded after tax price
+	 * @see		Reservation#getAfterTaxPrice()
+	 */
+	public double getAfterTaxPrice() {
+		return this.afterTaxPrice;
+	}
+	
+	/**
+	 * @see	Showable#show()
+	 */
+	@Override
+	public void show() {
+		System.out.println("Angebot: " + this.quotedReservableObject.getName());
+		System.out.println("Nächte: " + this.getNights());
+		System.out.println("Rabatt: " + Reservation.formatPrice(this.getDiscount()));
+		System.out.println("Preis: " + Reservation.formatPrice(this.getAfterTaxPrice()));
+	}
+}
@@ -0,0 +1,100 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of {@link Quote} objects of a single {@link ReservableObject}.
+ * Lookups never lock, so concurrent quotes on the same object don't serialize. If the
+ * cache is full, an arbitrary {@link Quote} is evicted before a new one is stored. The
+ * cache may briefly exceed its capacity by the amount of concurrently storing threads.
+ * All methods are thread safe.
+ * 
+ * @author	Stefan Hahn
+ */
+class QuoteCache {
+	/**
+	 * Default maximum amount of cached quotes
+	 */
+	static final int DEFAULT_CAPACITY = 256;
+	
+	private ConcurrentHashMap<Long, Quote> quotes = new ConcurrentHashMap<>();
+	private int capacity = 0;
+	
+	/**
+	 * Creates a new <code>QuoteCache</code> with given capacity.
+	 * 
+	 * @param	capacity				Maximum amount of cached quotes
+	 */
+	QuoteCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be greater then 0.");
+		}
+		
+		this.capacity = capacity;
+	}
+	
+	/**
+	 * Creates a new <code>QuoteCache</code> with default capacity.
+	 */
+	QuoteCache() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Builds the cache key for the given nights and early bird bucket.
+	 * 
+	 * @param	nights					Nights to sleep over
+	 * @param	earlyBirdBucket			Early bird bucket
+	 * @return							Cache key
+	 * @see		ReservableObject#getEarlyBirdBucket(com.leon.hfu.customDate.Date)
+	 */
+	static long getKey(int nights, int earlyBirdBucket) {
+		return ((long) nights << 32) | (earlyBirdBucket & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Returns the cached {@link Quote} for the given key.
+	 * 
+	 * @param	key						Cache key
+	 * @return							Cached {@link Quote} or <code>null</code>
+	 */
+	Quote get(long key) {
+		return this.quotes.get(key);
+	}
+	
+	/**
+	 * Stores the given {@link Quote} and evicts an arbitrary one if the cache is full.
+	 * 
+	 * @param	key						Cache key
+	 * @param	quote					{@link Quote} object
+	 */
+	void put(long key, Quote quote) {
+		if (this.quotes.size() >= this.capacity && !this.quotes.containsKey(key)) {
+			Iterator<Long> iterator = this.quotes.keySet().iterator();
+			
+			if (iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		
+		this.quotes.put(key, quote);
+	}
+	
+	/**
+	 * Removes all cached quotes.
+	 */
+	void clear() {
+		this.quotes.clear();
+	}
+	
+	/**
+	 * Returns the amount of cached quotes.
+	 * 
+	 * @return							Amount of cached quotes
+	 */
+	int size() {
+		return this.quotes.size();
+	}
+}
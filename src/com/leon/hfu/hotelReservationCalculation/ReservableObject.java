@@ -1,8 +1,18 @@
 package com.leon.hfu.hotelReservationCalculation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Set;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.leon.hfu.customDate.Date;
 
@@ -20,11 +30,46 @@ public abstract class ReservableObject implements Showable {
 	 */
 	public static final double VAT_RATE = 0.07;
 	
+	private static final AtomicLong LOCK_ORDER_SEQUENCE = new AtomicLong();
+	
+	private static final Comparator<Reservation> DEPARTURE_ORDER = new Comparator<Reservation>() {
+		@Override
+		public int compare(Reservation r1, Reservation r2) {
+			int result = r1.getDepartureDate().compareTo(r2.getDepartureDate());
+			
+			if (result == 0) {
+				result = r1.getID().compareTo(r2.getID());
+			}
+			
+			return result;
+		}
+	};
+	
+	private static final Comparator<WaitingReservation> WAITLIST_ORDER = new Comparator<WaitingReservation>() {
+		@Override
+		public int compare(WaitingReservation r1, WaitingReservation r2) {
+			int result = Integer.compare(r2.getPriority(), r1.getPriority());
+			
+			if (result == 0) {
+				result = Long.compare(r1.getSequence(), r2.getSequence());
+			}
+			
+			return result;
+		}
+	};
+	
+	private final long lockOrder = LOCK_ORDER_SEQUENCE.getAndIncrement();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ReentrantReadWriteLock priceLock = new ReentrantReadWriteLock();
 	private String name = "";
 	private String address = "";
-	private double basePrice = 0;
+	private volatile double basePrice = 0;
 	private int maxPersons = 0;
-	private HashMap<UUID, Reservation> reservations = new HashMap<>();
+	private volatile Map<UUID, Reservation> reservations = Collections.emptyMap();
+	private TreeSet<Reservation> departures = new TreeSet<>(DEPARTURE_ORDER);
+	private ArrayList<Reservation> archivedReservations = new ArrayList<>();
+	private QuoteCache quotes = new QuoteCache();
+	private Waitlist waitlist = new Waitlist();
 	
 	/**
 	 * Creaes a new <code>ReservableObject</code> objects with given parameters.
@@ -50,23 +95,73 @@ public abstract class ReservableObject implements Showable {
 	 * @throws	ConcurrentReservationException	Thrown if there are concurrent reservations
 	 */
 	void addReservation(Reservation newReservation) throws ConcurrentReservationException {
-		if (this.reservations.size() > 0) {
-			Set<UUID> ids = this.reservations.keySet();
-			
-			for (UUID id: ids) {
-				Date currentArrival = this.reservations.get(id).getArrivalDate();
-				Date currentDeparture = this.reservations.get(id).getDepartureDate();
-				Date newArrival = newReservation.getArrivalDate();
-				Date newDeparture = newReservation.getDepartureDate();
-				
-				if ((!(newArrival.compareTo(currentArrival) > 0) || !(newDeparture.compareTo(currentArrival) <= 0))
-					&& (!(newArrival.compareTo(currentDeparture) >= 0) || !(newDeparture.compareTo(currentDeparture) > 0))) {
-					throw new ConcurrentReservationException(this.reservations.get(id));
-				}
+		this.lock.lock();
+		
+		try {
+			this.putReservation(newReservation);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Checks the given {@link Reservation} against all existing reservations without storing it.
+	 * Caller must hold the lock of this <code>ReservableObject</code>, otherwise the result
+	 * may be outdated immediately.
+	 * 
+	 * @param	newReservation					{@link Reservation} object
+	 * @throws	ConcurrentReservationException	Thrown if there are concurrent reservations
+	 */
+	void checkReservation(Reservation newReservation) throws ConcurrentReservationException {
+		for (Reservation reservation: this.reservations.values()) {
+			if (ReservableObject.overlaps(newReservation, reservation)) {
+				throw new ConcurrentReservationException(reservation);
 			}
 		}
+	}
+	
+	/**
+	 * Returns whether the given {@link Reservation} is an active reservation of this <code>ReservableObject</code>.
+	 * 
+	 * @param	reservation						{@link Reservation} object
+	 * @return									<code>true</code> if the reservation is active
+	 */
+	boolean hasReservation(Reservation reservation) {
+		return this.reservations.containsKey(reservation.getID());
+	}
+	
+	/**
+	 * Returns whether the stays of two {@link Reservation} objects overlap. Departure and
+	 * arrival on the same day don't overlap.
+	 * 
+	 * @param	r1								First {@link Reservation}
+	 * @param	r2								Second {@link Reservation}
+	 * @return									<code>true</code> if the stays overlap
+	 */
+	static boolean overlaps(Reservation r1, Reservation r2) {
+		return r1.getArrivalDate().compareTo(r2.getDepartureDate()) < 0 && r1.getDepartureDate().compareTo(r2.getArrivalDate()) > 0;
+	}
+	
+	/**
+	 * Checks the given {@link Reservation} against all existing reservations and stores it.
+	 * Caller must hold the lock of this <code>ReservableObject</code>.
+	 * Reservations are never modified in place, a modified copy is published instead, so
+	 * readers of {@link #getReservations()} are never blocked by bookings.
+	 * 
+	 * @param	newReservation					{@link Reservation} object
+	 * @throws	ConcurrentReservationException	Thrown if there are concurrent reservations
+	 */
+	void putReservation(Reservation newReservation) throws ConcurrentReservationException {
+		Map<UUID, Reservation> currentReservations = this.reservations;
+		
+		this.checkReservation(newReservation);
 		
-		this.reservations.put(newReservation.getID(), newReservation);
+		HashMap<UUID, Reservation> newReservations = new HashMap<>(currentReservations);
+		newReservations.put(newReservation.getID(), newReservation);
+		this.reservations = Collections.unmodifiableMap(newReservations);
+		this.departures.add(newReservation);
+		ReservationIndex.register(newReservation);
 	}
 	
 	/**
@@ -78,11 +173,406 @@ public abstract class ReservableObject implements Showable {
 	 * @throws	ReservationException			Thrown if the given {@link Reservation} objects isn't linked to this <code>ReservableObject</code>
 	 */
 	void cancelReservation(Reservation reservation) throws ReservationException {
-		if (!this.reservations.containsKey(reservation.getID())) {
-			throw new ReservationException("Reservierung ist für diese Ferienwohnung nicht gültig.");
+		List<WaitingReservation> settledRequests = new ArrayList<>();
+		
+		this.cancelReservation(reservation, settledRequests);
+		
+		ReservableObject.notifyWaiting(settledRequests);
+	}
+	
+	/**
+	 * Removes a {@link Reservation} from this <code>ReservableObject</code>.
+	 * Waiting requests booked or expired by the cancellation are added to <code>settledRequests</code>
+	 * without telling their listeners, the caller must pass them to {@link #notifyWaiting(List)}
+	 * once it released all locks.
+	 * 
+	 * @param	reservation						{@link Reservation} object
+	 * @param	settledRequests					List receiving the booked and expired requests
+	 * @throws	ReservationException			Thrown if the given {@link Reservation} objects isn't linked to this <code>ReservableObject</code>
+	 * @see		GroupReservation#cancel()
+	 */
+	void cancelReservation(Reservation reservation, List<WaitingReservation> settledRequests) throws ReservationException {
+		this.lock.lock();
+		
+		try {
+			if (!this.reservations.containsKey(reservation.getID())) {
+				throw new ReservationException("Reservierung ist für diese Ferienwohnung nicht gültig.");
+			}
+			
+			HashMap<UUID, Reservation> newReservations = new HashMap<>(this.reservations);
+			this.removeReservation(newReservations, reservation);
+			this.reservations = Collections.unmodifiableMap(newReservations);
+			
+			settledRequests.addAll(this.fillFromWaitlist(Collections.singletonList(reservation)));
+		}
+		finally {
+			this.lock.unlock();
 		}
+	}
+	
+	/**
+	 * Removes several {@link Reservation} objects from this <code>ReservableObject</code>
+	 * while acquiring the lock only once.
+	 * Waiting requests booked or expired by the cancellation are added to <code>settledRequests</code>
+	 * without telling their listeners, the caller must pass them to {@link #notifyWaiting(List)}.
+	 * This method shouldn't be called manually, it is called automatically within
+	 * {@link ReservationIndex#cancelAll(Collection)}.
+	 * 
+	 * @param	cancelledReservations			{@link Reservation} objects
+	 * @param	settledRequests					List receiving the booked and expired requests
+	 * @return									{@link Reservation} objects which weren't linked to this <code>ReservableObject</code>
+	 */
+	List<Reservation> cancelReservations(Collection<Reservation> cancelledReservations, List<WaitingReservation> settledRequests) {
+		List<Reservation> removedReservations = new ArrayList<>();
+		List<Reservation> invalidReservations = new ArrayList<>();
+		
+		this.lock.lock();
 		
-		this.reservations.remove(reservation.getID());
+		try {
+			HashMap<UUID, Reservation> newReservations = new HashMap<>(this.reservations);
+			
+			for (Reservation reservation: cancelledReservations) {
+				if (newReservations.containsKey(reservation.getID())) {
+					this.removeReservation(newReservations, reservation);
+					removedReservations.add(reservation);
+				}
+				else {
+					invalidReservations.add(reservation);
+				}
+			}
+			
+			this.reservations = Collections.unmodifiableMap(newReservations);
+			
+			settledRequests.addAll(this.fillFromWaitlist(removedReservations));
+		}
+		finally {
+			this.lock.unlock();
+		}
+		
+		return invalidReservations;
+	}
+	
+	/**
+	 * Removes the given active {@link Reservation} from the given copy of the reservations
+	 * and all other reservation structures.
+	 * Caller must hold the lock of this <code>ReservableObject</code> and publish the copy.
+	 * 
+	 * @param	newReservations					Copy of the reservations
+	 * @param	reservation						{@link Reservation} object
+	 */
+	private void removeReservation(Map<UUID, Reservation> newReservations, Reservation reservation) {
+		this.departures.remove(newReservations.remove(reservation.getID()));
+		ReservationIndex.unregister(reservation);
+	}
+	
+	/**
+	 * Requests a reservation of this <code>ReservableObject</code> and puts it on the waitlist
+	 * if it concurs with existing reservations. Waiting requests are booked automatically as
+	 * soon as cancellations free their period, higher priorities and earlier requests first.
+	 * 
+	 * @param	arrival							Arrival date
+	 * @param	departure						Departure date
+	 * @param	persons							Persons
+	 * @param	priority						Priority of the request, higher priorities are booked first
+	 * @return									{@link WaitingReservation} object, already booked if there were no concurrent reservations
+	 * @throws	ReservationException			Thrown if arrival in past or departure before arrival
+	 * @see		#waitlist(Date, Date, int, int, WaitlistListener)
+	 */
+	public WaitingReservation waitlist(Date arrival, Date departure, int persons, int priority) throws ReservationException {
+		return this.waitlist(arrival, departure, persons, priority, null);
+	}
+	
+	/**
+	 * Requests a reservation of this <code>ReservableObject</code> and puts it on the waitlist
+	 * if it concurs with existing reservations. The given {@link WaitlistListener} is told as
+	 * soon as the request is booked, immediately or after a cancellation, or expires because
+	 * its arrival date has passed.
+	 * 
+	 * @param	arrival							Arrival date
+	 * @param	departure						Departure date
+	 * @param	persons							Persons
+	 * @param	priority						Priority of the request, higher priorities are booked first
+	 * @param	listener						{@link WaitlistListener} to tell, may be <code>null</code>
+	 * @return									{@link WaitingReservation} object, already booked if there were no concurrent reservations
+	 * @throws	ReservationException			Thrown if arrival in past or departure before arrival
+	 */
+	public WaitingReservation waitlist(Date arrival, Date departure, int persons, int priority, WaitlistListener listener) throws ReservationException {
+		WaitingReservation request = new WaitingReservation(new Reservation(arrival, departure, persons, this, false), priority, listener);
+		
+		this.lock.lock();
+		
+		try {
+			try {
+				this.putReservation(request.getReservation());
+				request.setBooked();
+			}
+			catch (ConcurrentReservationException e) {
+				this.waitlist.add(request);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		
+		ReservableObject.notifyWaiting(Collections.singletonList(request));
+		
+		return request;
+	}
+	
+	/**
+	 * Removes the given {@link WaitingReservation} from the waitlist of this <code>ReservableObject</code>.
+	 * 
+	 * @param	request							{@link WaitingReservation} object
+	 * @throws	ReservationException			Thrown if the request isn't waiting for this <code>ReservableObject</code>
+	 */
+	public void cancelWaiting(WaitingReservation request) throws ReservationException {
+		this.lock.lock();
+		
+		try {
+			if (!this.waitlist.remove(request)) {
+				throw new ReservationException("Anfrage ist nicht auf der Warteliste.");
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Returns the amount of requests on the waitlist of this <code>ReservableObject</code>.
+	 * 
+	 * @return									Amount of waiting requests
+	 */
+	public int getWaitlistSize() {
+		this.lock.lock();
+		
+		try {
+			return this.waitlist.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Books waiting requests whose period overlaps the period of any of the given cancelled
+	 * reservations. Only those requests can fit now, all others are still blocked by the same
+	 * reservations as before. Requests arriving in the past are dropped.
+	 * Caller must hold the lock of this <code>ReservableObject</code> and pass the returned
+	 * requests to {@link #notifyWaiting(List)} after releasing it.
+	 * 
+	 * @param	cancelledReservations			Cancelled {@link Reservation} objects
+	 * @return									Booked and expired requests
+	 */
+	private List<WaitingReservation> fillFromWaitlist(List<Reservation> cancelledReservations) {
+		List<WaitingReservation> settledRequests = new ArrayList<>();
+		
+		if (this.waitlist.size() == 0) {
+			return settledRequests;
+		}
+		
+		LinkedHashSet<WaitingReservation> candidates = new LinkedHashSet<>();
+		
+		for (Reservation reservation: cancelledReservations) {
+			candidates.addAll(this.waitlist.findOverlapping(reservation.getArrivalDate(), reservation.getDepartureDate()));
+		}
+		
+		List<WaitingReservation> requests = new ArrayList<>(candidates);
+		Collections.sort(requests, WAITLIST_ORDER);
+		Date currentDate = Date.getCurrentDate();
+		
+		for (WaitingReservation request: requests) {
+			if (currentDate.compareTo(request.getArrivalDate()) > 0) {
+				this.waitlist.remove(request);
+				request.setExpired();
+				settledRequests.add(request);
+				continue;
+			}
+			
+			try {
+				this.putReservation(request.getReservation());
+				this.waitlist.remove(request);
+				request.setBooked();
+				settledRequests.add(request);
+			}
+			catch (ConcurrentReservationException e) {
+				// still blocked, keep waiting
+			}
+		}
+		
+		return settledRequests;
+	}
+	
+	/**
+	 * Tells the listeners of the given booked or expired requests.
+	 * Must be called without holding the lock of any <code>ReservableObject</code>,
+	 * so listeners may book or cancel reservations themselves. The requests are already
+	 * booked or expired at this point, so an exception thrown by a listener is only printed
+	 * and doesn't stop the remaining listeners or the calling operation.
+	 * 
+	 * @param	settledRequests					Booked and expired requests, may be <code>null</code>
+	 */
+	static void notifyWaiting(List<WaitingReservation> settledRequests) {
+		if (settledRequests == null) {
+			return;
+		}
+		
+		for (WaitingReservation request: settledRequests) {
+			try {
+				request.notifyListener();
+			}
+			catch (RuntimeException e) {
+				System.err.println("Fehler beim Benachrichtigen der Warteliste: " + e);
+			}
+		}
+	}
+	
+	/**
+	 * Moves up to <code>limit</code> reservations whose departure date has passed from the
+	 * active reservations into the archive of this <code>ReservableObject</code>, earliest
+	 * departure first. Archived reservations are no longer checked for concurrent reservations
+	 * and can't be cancelled anymore.
+	 * Waiting requests whose arrival date has passed, including all whose stay is already
+	 * over, are removed from the waitlist in the same pass, at most <code>limit</code> of them.
+	 * This method never blocks, if the lock of this <code>ReservableObject</code> is held
+	 * by a booking, nothing is archived.
+	 * 
+	 * @param	limit							Maximum amount of reservations to archive
+	 * @return									Amount of archived reservations
+	 * @see		ReservationArchiver
+	 */
+	public int archiveDepartedReservations(int limit) {
+		return this.archiveDepartedReservations(limit, Date.getCurrentDate());
+	}
+	
+	/**
+	 * Archives departed reservations and removes expired requests as of the given date.
+	 * 
+	 * @param	limit							Maximum amount of reservations to archive
+	 * @param	currentDate						Date to archive as of
+	 * @return									Amount of archived reservations
+	 * @see		#archiveDepartedReservations(int)
+	 */
+	int archiveDepartedReservations(int limit, Date currentDate) {
+		if (!this.lock.tryLock()) {
+			return 0;
+		}
+		
+		int archived = 0;
+		List<WaitingReservation> expiredRequests = null;
+		
+		try {
+			List<Reservation> departed = new ArrayList<>();
+			
+			while (departed.size() < limit && !this.departures.isEmpty()
+				&& currentDate.compareTo(this.departures.first().getDepartureDate()) >= 0) {
+				departed.add(this.departures.pollFirst());
+			}
+			
+			if (departed.size() > 0) {
+				HashMap<UUID, Reservation> newReservations = new HashMap<>(this.reservations);
+				
+				for (Reservation reservation: departed) {
+					newReservations.remove(reservation.getID());
+					ReservationIndex.unregister(reservation);
+				}
+				
+				this.reservations = Collections.unmodifiableMap(newReservations);
+				
+				synchronized (this.archivedReservations) {
+					this.archivedReservations.addAll(departed);
+				}
+			}
+			
+			expiredRequests = this.waitlist.removeArrivingBefore(currentDate, limit);
+			
+			for (WaitingReservation request: expiredRequests) {
+				request.setExpired();
+			}
+			
+			archived = departed.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		
+		ReservableObject.notifyWaiting(expiredRequests);
+		
+		return archived;
+	}
+	
+	/**
+	 * Returns all archived reservations of this <code>ReservableObject</code> ordered by departure date.
+	 * 
+	 * @return									Archived reservations
+	 */
+	public List<Reservation> getArchivedReservations() {
+		synchronized (this.archivedReservations) {
+			return Collections.unmodifiableList(new ArrayList<>(this.archivedReservations));
+		}
+	}
+	
+	/**
+	 * Returns the archived reservations of this <code>ReservableObject</code> with a departure date
+	 * between <code>from</code> (inclusive) and <code>to</code> (exclusive), ordered by departure date.
+	 * 
+	 * @param	from							First departure date
+	 * @param	to								Departure date after the last one
+	 * @return									Archived reservations
+	 */
+	public List<Reservation> getArchivedReservations(Date from, Date to) {
+		synchronized (this.archivedReservations) {
+			int start = this.findArchivedDeparture(from);
+			int end = Math.max(start, this.findArchivedDeparture(to));
+			
+			return Collections.unmodifiableList(new ArrayList<>(this.archivedReservations.subList(start, end)));
+		}
+	}
+	
+	/**
+	 * Returns the index of the first archived reservation not departing before the given date.
+	 * Caller must hold the monitor of the archive.
+	 * 
+	 * @param	departure						Departure date
+	 * @return									Index within the archive
+	 */
+	private int findArchivedDeparture(Date departure) {
+		int low = 0;
+		int high = this.archivedReservations.size();
+		
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			
+			if (this.archivedReservations.get(middle).getDepartureDate().compareTo(departure) < 0) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		
+		return low;
+	}
+	
+	/**
+	 * Returns the lock guarding the reservations of this <code>ReservableObject</code>.
+	 * The lock is reentrant, so holders may still call {@link #addReservation(Reservation)}
+	 * and {@link #cancelReservation(Reservation)}.
+	 * 
+	 * @return							Lock of this <code>ReservableObject</code>
+	 */
+	ReentrantLock getLock() {
+		return this.lock;
+	}
+	
+	/**
+	 * Returns the position of this <code>ReservableObject</code> in the global lock order.
+	 * Locks of several objects must always be acquired in ascending lock order.
+	 * 
+	 * @return							Lock order of this <code>ReservableObject</code>
+	 */
+	long getLockOrder() {
+		return this.lockOrder;
 	}
 	
 	/**
@@ -148,7 +638,15 @@ public abstract class ReservableObject implements Showable {
 			throw new IllegalArgumentException("Base price muste be greater then 0.");
 		}
 		
-		this.basePrice = basePrice;
+		this.priceLock.writeLock().lock();
+		
+		try {
+			this.basePrice = basePrice;
+			this.quotes.clear();
+		}
+		finally {
+			this.priceLock.writeLock().unlock();
+		}
 	}
 	
 	/**
@@ -173,6 +671,60 @@ public abstract class ReservableObject implements Showable {
 		this.maxPersons = maxPersons;
 	}
 	
+	/**
+	 * Returns a non-binding price {@link Quote} for staying the given amount of nights in this
+	 * <code>ReservableObject</code> without reserving it.
+	 * Prices only depend on the base price, the nights and the early bird bucket of the arrival,
+	 * so quotes are cached by those and invalidated on {@link #setBasePrice(double)}.
+	 * Cached quotes are returned without locking. A missing quote is calculated while holding
+	 * the read lock of the base price, so it can't mix two base prices and can't be stored
+	 * after a concurrent {@link #setBasePrice(double)} cleared the cache.
+	 * 
+	 * @param	arrival							Arrival date
+	 * @param	nights							Nights to sleep over
+	 * @return									Price {@link Quote}
+	 * @throws	ReservationException			Thrown if arrival in past or less than one night
+	 */
+	public Quote quote(Date arrival, int nights) throws ReservationException {
+		if (Date.getCurrentDate().compareTo(arrival) > 0) {
+			throw new ReservationException("Reservierung in der Vergangenheit nicht möglich.");
+		}
+		
+		if (nights <= 0) {
+			throw new ReservationException("Mindestaufenthalt von einer Nacht.");
+		}
+		
+		long key = QuoteCache.getKey(nights, this.getEarlyBirdBucket(arrival));
+		Quote quote = this.quotes.get(key);
+		
+		if (quote != null) {
+			return quote;
+		}
+		
+		this.priceLock.readLock().lock();
+		
+		try {
+			quote = new Quote(new Reservation(arrival, nights, 1, this, false), this.getBasePrice());
+			this.quotes.put(key, quote);
+		}
+		finally {
+			this.priceLock.readLock().unlock();
+		}
+		
+		return quote;
+	}
+	
+	/**
+	 * Returns the early bird bucket of the given arrival date. Arrivals in the same bucket
+	 * receive the same early bird discount rate.
+	 * 
+	 * @param	arrival							Arrival date
+	 * @return									Early bird bucket, always zero by default
+	 */
+	int getEarlyBirdBucket(Date arrival) {
+		return 0;
+	}
+	
 	/**
 	 * Calculates the specific early bird discount dependant on implementation.
 	 */
@@ -189,15 +741,22 @@ public abstract class ReservableObject implements Showable {
 	 * @see		Reservation#getInformation()
 	 */
 	public void printReservationInformation() {
-		if (this.reservations.size() > 0) {
-			Set<UUID> ids = this.reservations.keySet();
-			
-			for (UUID id: ids) {
-				System.out.println(this.reservations.get(id).getInformation());
-			}
+		for (Reservation reservation: this.getReservations()) {
+			System.out.println(reservation.getInformation());
 		}
 	}
 	
+	/**
+	 * Returns a point-in-time snapshot of all active reservations of this <code>ReservableObject</code>.
+	 * The snapshot is immutable and never changes, even if reservations are added or cancelled
+	 * afterwards, so it can be iterated without blocking bookings.
+	 * 
+	 * @return									Active reservations
+	 */
+	public Collection<Reservation> getReservations() {
+		return this.reservations.values();
+	}
+	
 	/**
 	 * @see	Showable#show()
 	 */
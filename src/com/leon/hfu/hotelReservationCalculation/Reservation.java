@@ -29,6 +29,22 @@ public class Reservation implements Showable {
 	 * @throws	ReservationException	Thrown if <code>Reservation</code> is corrupted, arrival in past, departure before arrival or concurrent reservations
 	 */
 	public Reservation(Date arrival, Date departure, int persons, ReservableObject reservableObject) throws ReservationException {
+		this(arrival, departure, persons, reservableObject, true);
+	}
+	
+	/**
+	 * Creates a new <code>Reservation</code> with given parameters.
+	 * If <code>register</code> is <code>false</code>, the <code>Reservation</code> is validated
+	 * but not added to the given {@link ReservableObject}, the caller is responsible for doing so.
+	 * 
+	 * @param	arrival					Arrival date of this <code>Reservation</code>
+	 * @param	departure				Departure of this <code>Reservation</code>
+	 * @param	persons					Persons of this <code>Reservation</code>
+	 * @param	reservableObject		{@link ReservableObject} this <code>Reservation</code> is linked to
+	 * @param	register				Whether to add this <code>Reservation</code> to the {@link ReservableObject}
+	 * @throws	ReservationException	Thrown if <code>Reservation</code> is corrupted, arrival in past, departure before arrival or concurrent reservations
+	 */
+	Reservation(Date arrival, Date departure, int persons, ReservableObject reservableObject, boolean register) throws ReservationException {
 		this.arrival = arrival;
 		this.departure = departure;
 		this.persons = persons;
@@ -46,7 +62,10 @@ public class Reservation implements Showable {
 		
 		this.nights = this.arrival.delta(this.departure);
 		this.reservedReservableObject = reservableObject;
-		this.reservedReservableObject.addReservation(this);
+		
+		if (register) {
+			this.reservedReservableObject.addReservation(this);
+		}
 	}
 	
 	/**
@@ -62,6 +81,21 @@ public class Reservation implements Showable {
 		this(arrival, arrival.getFollowingDate(nights), persons, reservableObject);
 	}
 	
+	/**
+	 * Creates a new <code>Reservation</code> with given parameters.
+	 * 
+	 * @param	arrival					Arrival date of this <code>Reservation</code>
+	 * @param	nights					Nights to sleep over of this <code>Reservation</code>
+	 * @param	persons					Persons of this <code>Reservation</code>
+	 * @param	reservableObject		{@link ReservableObject} this <code>Reservation</code> is linked to
+	 * @param	register				Whether to add this <code>Reservation</code> to the {@link ReservableObject}
+	 * @throws	ReservationException	Thrown if <code>Reservation</code> is corrupted, arrival in past, departure before arrival or concurrent reservations
+	 * @see		#Reservation(Date, Date, int, ReservableObject, boolean)
+	 */
+	Reservation(Date arrival, int nights, int persons, ReservableObject reservableObject, boolean register) throws ReservationException {
+		this(arrival, arrival.getFollowingDate(nights), persons, reservableObject, register);
+	}
+	
 	/**
 	 * Cancels this reservation.
 	 * 
@@ -80,6 +114,15 @@ public class Reservation implements Showable {
 		return this.ident;
 	}
 	
+	/**
+	 * Gets the {@link ReservableObject} this <code>Reservation</code> is linked to.
+	 * 
+	 * @return							Reserved object
+	 */
+	public ReservableObject getReservableObject() {
+		return this.reservedReservableObject;
+	}
+	
 	/**
 	 * Gets the arrival {@link Date} of this <code>Reservation</code>.
 	 * 
@@ -0,0 +1,96 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically moves departed reservations of a set of {@link ReservableObject} instances
+ * into their archives, so the active reservations only contain current and future stays.
+ * Every run archives at most a fixed amount of reservations per object and skips objects
+ * which are currently locked by a booking, those are handled by the next run.
+ * 
+ * @author	Stefan Hahn
+ * @see		ReservableObject#archiveDepartedReservations(int)
+ */
+public class ReservationArchiver implements Runnable {
+	/**
+	 * Default maximum amount of reservations archived per object and run
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+	
+	private List<ReservableObject> reservableObjects = null;
+	private int batchSize = 0;
+	private ScheduledExecutorService executor = null;
+	
+	/**
+	 * Creates a new <code>ReservationArchiver</code> for the given objects.
+	 * 
+	 * @param	reservableObjects		{@link ReservableObject} instances to archive
+	 * @param	batchSize				Maximum amount of reservations archived per object and run
+	 */
+	public ReservationArchiver(Collection<? extends ReservableObject> reservableObjects, int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be greater then 0.");
+		}
+		
+		this.reservableObjects = new ArrayList<ReservableObject>(reservableObjects);
+		this.batchSize = batchSize;
+	}
+	
+	/**
+	 * Creates a new <code>ReservationArchiver</code> for the given objects with default batch size.
+	 * 
+	 * @param	reservableObjects		{@link ReservableObject} instances to archive
+	 */
+	public ReservationArchiver(Collection<? extends ReservableObject> reservableObjects) {
+		this(reservableObjects, DEFAULT_BATCH_SIZE);
+	}
+	
+	/**
+	 * Runs a single incremental archive pass over all objects.
+	 */
+	@Override
+	public void run() {
+		for (ReservableObject reservableObject: this.reservableObjects) {
+			reservableObject.archiveDepartedReservations(this.batchSize);
+		}
+	}
+	
+	/**
+	 * Starts running archive passes periodically on a background thread.
+	 * 
+	 * @param	period					Time between two archive passes
+	 * @param	unit					Time unit of <code>period</code>
+	 */
+	public synchronized void start(long period, TimeUnit unit) {
+		if (this.executor != null) {
+			throw new IllegalStateException("Archiver is already running.");
+		}
+		
+		this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "ReservationArchiver");
+				thread.setDaemon(true);
+				
+				return thread;
+			}
+		});
+		this.executor.scheduleWithFixedDelay(this, 0, period, unit);
+	}
+	
+	/**
+	 * Stops running archive passes, a currently running pass is finished.
+	 */
+	public synchronized void stop() {
+		if (this.executor != null) {
+			this.executor.shutdown();
+			this.executor = null;
+		}
+	}
+}
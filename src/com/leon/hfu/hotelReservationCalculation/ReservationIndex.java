@@ -0,0 +1,115 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inventory-wide index of all active {@link Reservation} objects by their {@link UUID}.
+ * Reservations are registered and unregistered automatically by their {@link ReservableObject},
+ * archived reservations aren't part of this index.
+ * The index is global and holds strong references, so every active reservation stays
+ * reachable, together with its {@link ReservableObject}, until it is cancelled or archived,
+ * even if the object itself isn't used anymore. Reservations of discarded objects must be
+ * cancelled, for example with {@link #cancelAll(Collection)}, to release them.
+ * 
+ * @author	Stefan Hahn
+ */
+public final class ReservationIndex {
+	private static ConcurrentHashMap<UUID, Reservation> reservations = new ConcurrentHashMap<>();
+	
+	private ReservationIndex() { }
+	
+	/**
+	 * Adds the given {@link Reservation} to this index.
+	 * 
+	 * @param	reservation				{@link Reservation} object
+	 */
+	static void register(Reservation reservation) {
+		ReservationIndex.reservations.put(reservation.getID(), reservation);
+	}
+	
+	/**
+	 * Removes the given {@link Reservation} from this index.
+	 * 
+	 * @param	reservation				{@link Reservation} object
+	 */
+	static void unregister(Reservation reservation) {
+		ReservationIndex.reservations.remove(reservation.getID(), reservation);
+	}
+	
+	/**
+	 * Finds the active {@link Reservation} with the given {@link UUID}.
+	 * 
+	 * @param	id						{@link UUID} of the {@link Reservation}
+	 * @return							{@link Reservation} object or <code>null</code> if there is no such active reservation
+	 */
+	public static Reservation find(UUID id) {
+		return ReservationIndex.reservations.get(id);
+	}
+	
+	/**
+	 * Cancels the active {@link Reservation} with the given {@link UUID}.
+	 * 
+	 * @param	id						{@link UUID} of the {@link Reservation}
+	 * @throws	ReservationException	Thrown if there is no such active reservation
+	 */
+	public static void cancel(UUID id) throws ReservationException {
+		Reservation reservation = ReservationIndex.find(id);
+		
+		if (reservation == null) {
+			throw new ReservationException("Reservierung " + id + " nicht gefunden.");
+		}
+		
+		reservation.cancel();
+	}
+	
+	/**
+	 * Cancels the active {@link Reservation} objects with the given {@link UUID}s.
+	 * The reservations are grouped by their {@link ReservableObject}, so every object
+	 * is locked only once. Repeated {@link UUID}s are only cancelled and reported once.
+	 * Listeners of waiting requests booked by the cancellation are told once all
+	 * reservations are cancelled.
+	 * 
+	 * @param	ids						{@link UUID}s of the reservations
+	 * @return							{@link UUID}s which didn't belong to an active reservation
+	 */
+	public static List<UUID> cancelAll(Collection<UUID> ids) {
+		List<UUID> unknownIDs = new ArrayList<>();
+		List<WaitingReservation> settledRequests = new ArrayList<>();
+		Map<ReservableObject, List<Reservation>> reservationsByObject = new IdentityHashMap<>();
+		
+		for (UUID id: new LinkedHashSet<>(ids)) {
+			Reservation reservation = ReservationIndex.find(id);
+			
+			if (reservation == null) {
+				unknownIDs.add(id);
+				continue;
+			}
+			
+			List<Reservation> objectReservations = reservationsByObject.get(reservation.getReservableObject());
+			
+			if (objectReservations == null) {
+				objectReservations = new ArrayList<>();
+				reservationsByObject.put(reservation.getReservableObject(), objectReservations);
+			}
+			
+			objectReservations.add(reservation);
+		}
+		
+		for (Map.Entry<ReservableObject, List<Reservation>> entry: reservationsByObject.entrySet()) {
+			for (Reservation reservation: entry.getKey().cancelReservations(entry.getValue(), settledRequests)) {
+				unknownIDs.add(reservation.getID());
+			}
+		}
+		
+		ReservableObject.notifyWaiting(settledRequests);
+		
+		return unknownIDs;
+	}
+}
@@ -66,16 +66,39 @@ public class VacationHome extends ReservableObject {
 	@Override
 	double getEarlyBirdDiscount(Reservation reservation) {
 		double discountRate = 0;
-		int daysTillArrival = Date.getCurrentDate().delta(reservation.getArrivalDate());
+		
+		switch (this.getEarlyBirdBucket(reservation.getArrivalDate())) {
+			case 2:
+				discountRate = 0.1;
+				break;
+			case 1:
+				discountRate = 0.05;
+				break;
+		}
+		
+		return Reservation.roundPrice(this.getBasePrice() * reservation.getNights() * discountRate);
+	}
+	
+	/**
+	 * Returns the early bird bucket of the given arrival date, <code>2</code> for arrivals
+	 * in at least 180 days, <code>1</code> for arrivals in at least 90 days and <code>0</code>
+	 * otherwise.
+	 * 
+	 * @return							Early bird bucket
+	 * @see		ReservableObject#getEarlyBirdBucket(Date)
+	 */
+	@Override
+	int getEarlyBirdBucket(Date arrival) {
+		int daysTillArrival = Date.getCurrentDate().delta(arrival);
 		
 		if (daysTillArrival >= 180) {
-			discountRate = 0.1;
+			return 2;
 		}
 		else if (daysTillArrival >= 90) {
-			discountRate = 0.05;
+			return 1;
 		}
 		
-		return Reservation.roundPrice(this.getBasePrice() * reservation.getNights() * discountRate);
+		return 0;
 	}
 	
 	/**
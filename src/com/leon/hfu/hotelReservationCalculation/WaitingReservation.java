@@ -0,0 +1,143 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Represents a request on the waitlist of a {@link ReservableObject} which couldn't be
+ * booked because of concurrent reservations. Once a cancellation frees its period, the
+ * request is booked automatically, requests with higher priority first. Requests whose
+ * arrival date passes while waiting expire. An optional {@link WaitlistListener} is told
+ * about either outcome.
+ * 
+ * @author	Stefan Hahn
+ * @see		ReservableObject#waitlist(Date, Date, int, int)
+ */
+public class WaitingReservation implements Showable {
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+	
+	private long sequence = SEQUENCE.getAndIncrement();
+	private Reservation reservation = null;
+	private int priority = 0;
+	private WaitlistListener listener = null;
+	private volatile boolean booked = false;
+	private volatile boolean expired = false;
+	
+	/**
+	 * Creates a new <code>WaitingReservation</code> for the given unregistered {@link Reservation}.
+	 * 
+	 * @param	reservation				Unregistered {@link Reservation} object
+	 * @param	priority				Priority of this request, higher priorities are booked first
+	 * @param	listener				{@link WaitlistListener} to tell, may be <code>null</code>
+	 */
+	WaitingReservation(Reservation reservation, int priority, WaitlistListener listener) {
+		this.reservation = reservation;
+		this.priority = priority;
+		this.listener = listener;
+	}
+	
+	/**
+	 * Gets the {@link Reservation} of this request. It is only linked to its
+	 * {@link ReservableObject} if this request is booked.
+	 * 
+	 * @return							{@link Reservation} object
+	 */
+	public Reservation getReservation() {
+		return this.reservation;
+	}
+	
+	/**
+	 * Gets the arrival {@link Date} of this request.
+	 * 
+	 * @return							Arrival date
+	 */
+	public Date getArrivalDate() {
+		return this.reservation.getArrivalDate();
+	}
+	
+	/**
+	 * Gets the departure {@link Date} of this request.
+	 * 
+	 * @return							Departure date
+	 */
+	public Date getDepartureDate() {
+		return this.reservation.getDepartureDate();
+	}
+	
+	/**
+	 * Gets the priority of this request.
+	 * 
+	 * @return							Priority
+	 */
+	public int getPriority() {
+		return this.priority;
+	}
+	
+	/**
+	 * Gets the sequence number of this request, earlier requests have lower numbers.
+	 * 
+	 * @return							Sequence number
+	 */
+	long getSequence() {
+		return this.sequence;
+	}
+	
+	/**
+	 * Returns whether this request is booked.
+	 * 
+	 * @return							<code>true</code> if the {@link Reservation} is booked
+	 */
+	public boolean isBooked() {
+		return this.booked;
+	}
+	
+	/**
+	 * Marks this request as booked.
+	 */
+	void setBooked() {
+		this.booked = true;
+	}
+	
+	/**
+	 * Returns whether this request expired because its arrival date passed while waiting.
+	 * 
+	 * @return							<code>true</code> if this request expired
+	 */
+	public boolean isExpired() {
+		return this.expired;
+	}
+	
+	/**
+	 * Marks this request as expired.
+	 */
+	void setExpired() {
+		this.expired = true;
+	}
+	
+	/**
+	 * Tells the {@link WaitlistListener} of this request if it is booked or expired.
+	 */
+	void notifyListener() {
+		if (this.listener == null) {
+			return;
+		}
+		
+		if (this.booked) {
+			this.listener.reservationBooked(this);
+		}
+		else if (this.expired) {
+			this.listener.reservationExpired(this);
+		}
+	}
+	
+	/**
+	 * @see	Showable#show()
+	 */
+	@Override
+	public void show() {
+		System.out.println("Warteliste: " + (this.booked ? "gebucht" : (this.expired ? "abgelaufen" : "wartend")));
+		System.out.println("Priorität: " + this.getPriority());
+		this.reservation.show();
+	}
+}
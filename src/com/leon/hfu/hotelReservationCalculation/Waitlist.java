@@ -0,0 +1,175 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.TreeMap;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Interval index of the {@link WaitingReservation} objects of a single {@link ReservableObject}.
+ * A request overlaps a period if it either arrives within the period or is already staying
+ * on its first day. The first ones are found by a range lookup on requests ordered by arrival,
+ * the second ones by a lookup of the requests staying on that day. That way all <i>k</i>
+ * requests overlapping a period are found in <i>O(log n + k)</i> time. Adding and removing
+ * a request costs <i>O(log n)</i> plus one step per night of the request.
+ * This class isn't thread safe, callers must hold the lock of the {@link ReservableObject}.
+ * 
+ * @author	Stefan Hahn
+ */
+class Waitlist {
+	private static final Comparator<Date> DATE_ORDER = new Comparator<Date>() {
+		@Override
+		public int compare(Date d1, Date d2) {
+			return d1.compareTo(d2);
+		}
+	};
+	
+	private Date reference = Date.getCurrentDate();
+	private TreeMap<Date, LinkedHashSet<WaitingReservation>> requestsByArrival = new TreeMap<>(DATE_ORDER);
+	private HashMap<Integer, LinkedHashSet<WaitingReservation>> requestsByDay = new HashMap<>();
+	private int size = 0;
+	
+	/**
+	 * Adds the given {@link WaitingReservation} to this <code>Waitlist</code>.
+	 * 
+	 * @param	request					{@link WaitingReservation} object
+	 */
+	void add(WaitingReservation request) {
+		LinkedHashSet<WaitingReservation> requests = this.requestsByArrival.get(request.getArrivalDate());
+		
+		if (requests == null) {
+			requests = new LinkedHashSet<>();
+			this.requestsByArrival.put(request.getArrivalDate(), requests);
+		}
+		
+		if (!requests.add(request)) {
+			return;
+		}
+		
+		int departureDay = this.getDay(request.getDepartureDate());
+		
+		for (int day = this.getDay(request.getArrivalDate()); day < departureDay; day++) {
+			LinkedHashSet<WaitingReservation> dayRequests = this.requestsByDay.get(day);
+			
+			if (dayRequests == null) {
+				dayRequests = new LinkedHashSet<>();
+				this.requestsByDay.put(day, dayRequests);
+			}
+			
+			dayRequests.add(request);
+		}
+		
+		this.size++;
+	}
+	
+	/**
+	 * Removes the given {@link WaitingReservation} from this <code>Waitlist</code>.
+	 * 
+	 * @param	request					{@link WaitingReservation} object
+	 * @return							<code>true</code> if the request was part of this <code>Waitlist</code>
+	 */
+	boolean remove(WaitingReservation request) {
+		LinkedHashSet<WaitingReservation> requests = this.requestsByArrival.get(request.getArrivalDate());
+		
+		if (requests == null || !requests.remove(request)) {
+			return false;
+		}
+		
+		if (requests.isEmpty()) {
+			this.requestsByArrival.remove(request.getArrivalDate());
+		}
+		
+		int departureDay = this.getDay(request.getDepartureDate());
+		
+		for (int day = this.getDay(request.getArrivalDate()); day < departureDay; day++) {
+			LinkedHashSet<WaitingReservation> dayRequests = this.requestsByDay.get(day);
+			dayRequests.remove(request);
+			
+			if (dayRequests.isEmpty()) {
+				this.requestsByDay.remove(day);
+			}
+		}
+		
+		this.size--;
+		
+		return true;
+	}
+	
+	/**
+	 * Finds all requests whose period overlaps the period from <code>arrival</code> to
+	 * <code>departure</code>.
+	 * 
+	 * @param	arrival					Start of the period
+	 * @param	departure				End of the period
+	 * @return							Overlapping requests
+	 */
+	List<WaitingReservation> findOverlapping(Date arrival, Date departure) {
+		List<WaitingReservation> requests = new ArrayList<>();
+		LinkedHashSet<WaitingReservation> stayingRequests = this.requestsByDay.get(this.getDay(arrival));
+		
+		if (stayingRequests != null) {
+			requests.addAll(stayingRequests);
+		}
+		
+		for (LinkedHashSet<WaitingReservation> arrivingRequests: this.requestsByArrival.subMap(arrival, false, departure, false).values()) {
+			requests.addAll(arrivingRequests);
+		}
+		
+		return requests;
+	}
+	
+	/**
+	 * Removes up to <code>limit</code> requests arriving before the given date, earliest
+	 * arrival first. Those requests can't be booked anymore.
+	 * 
+	 * @param	date					First arrival date to keep
+	 * @param	limit					Maximum amount of requests to remove
+	 * @return							Removed requests
+	 */
+	List<WaitingReservation> removeArrivingBefore(Date date, int limit) {
+		List<WaitingReservation> requests = new ArrayList<>();
+		
+		for (LinkedHashSet<WaitingReservation> arrivingRequests: this.requestsByArrival.headMap(date, false).values()) {
+			for (WaitingReservation request: arrivingRequests) {
+				if (requests.size() >= limit) {
+					break;
+				}
+				
+				requests.add(request);
+			}
+			
+			if (requests.size() >= limit) {
+				break;
+			}
+		}
+		
+		for (WaitingReservation request: requests) {
+			this.remove(request);
+		}
+		
+		return requests;
+	}
+	
+	/**
+	 * Returns the amount of requests in this <code>Waitlist</code>.
+	 * 
+	 * @return							Amount of requests
+	 */
+	int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Returns the day number of the given date relative to the creation of this <code>Waitlist</code>.
+	 * 
+	 * @param	date					Any date
+	 * @return							Day number, negative for dates before the creation
+	 */
+	private int getDay(Date date) {
+		return this.reference.delta(date);
+	}
+}
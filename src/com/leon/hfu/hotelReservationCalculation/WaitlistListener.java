@@ -0,0 +1,28 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+/**
+ * Classes implementing this interface are told when a {@link WaitingReservation}
+ * leaves the waitlist of its {@link ReservableObject}.
+ * Listeners are called after the booking, cancellation or archive pass settling the request
+ * released all locks it acquired, so they may book or cancel reservations themselves.
+ * They are called on the thread of that operation and should return quickly. Exceptions
+ * thrown by a listener are printed and ignored, the request stays booked or expired.
+ * 
+ * @author	Stefan Hahn
+ * @see		ReservableObject#waitlist(com.leon.hfu.customDate.Date, com.leon.hfu.customDate.Date, int, int, WaitlistListener)
+ */
+public interface WaitlistListener {
+	/**
+	 * Called once the given request is booked.
+	 * 
+	 * @param	request					Booked {@link WaitingReservation}
+	 */
+	public void reservationBooked(WaitingReservation request);
+	
+	/**
+	 * Called once the given request is removed from the waitlist because its arrival date passed.
+	 * 
+	 * @param	request					Expired {@link WaitingReservation}
+	 */
+	public void reservationExpired(WaitingReservation request);
+}
@@ -0,0 +1,139 @@
+package com.leon.hfu.hotelReservationCalculation.loadTest;
+
+/**
+ * Histogram of latencies in nanoseconds with log-linear buckets.
+ * Values below 64 are counted exactly, larger values are counted within buckets of a relative
+ * width of at most 1/32, so percentiles are accurate to about three percent while recording
+ * stays a constant time array update.
+ * This class isn't thread safe, every thread should record into its own histogram and the
+ * histograms should be merged with {@link #add(LatencyHistogram)} afterwards.
+ * 
+ * @author	Stefan Hahn
+ */
+public class LatencyHistogram {
+	private static final int LINEAR_BUCKETS = 64;
+	private static final int SUB_BUCKETS = 32;
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+	
+	private long[] counts = new long[BUCKETS];
+	private long count = 0;
+	private long sum = 0;
+	private long max = 0;
+	
+	/**
+	 * Records a single latency.
+	 * 
+	 * @param	nanos					Latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		
+		this.counts[LatencyHistogram.getBucket(nanos)]++;
+		this.count++;
+		this.sum += nanos;
+		this.max = Math.max(this.max, nanos);
+	}
+	
+	/**
+	 * Adds all latencies recorded by the given histogram to this one.
+	 * 
+	 * @param	histogram				Other <code>LatencyHistogram</code>
+	 */
+	public void add(LatencyHistogram histogram) {
+		for (int i = 0; i < BUCKETS; i++) {
+			this.counts[i] += histogram.counts[i];
+		}
+		
+		this.count += histogram.count;
+		this.sum += histogram.sum;
+		this.max = Math.max(this.max, histogram.max);
+	}
+	
+	/**
+	 * Returns the amount of recorded latencies.
+	 * 
+	 * @return							Amount of recorded latencies
+	 */
+	public long getCount() {
+		return this.count;
+	}
+	
+	/**
+	 * Returns the highest recorded latency.
+	 * 
+	 * @return							Highest latency in nanoseconds
+	 */
+	public long getMax() {
+		return this.max;
+	}
+	
+	/**
+	 * Returns the mean of all recorded latencies.
+	 * 
+	 * @return							Mean latency in nanoseconds
+	 */
+	public double getMean() {
+		return this.count == 0 ? 0 : (double) this.sum / this.count;
+	}
+	
+	/**
+	 * Returns the latency below or at which the given percentage of all recorded latencies are.
+	 * 
+	 * @param	percentile				Percentile between 0 and 100
+	 * @return							Upper bound of the bucket containing the percentile in nanoseconds
+	 */
+	public long getPercentile(double percentile) {
+		if (this.count == 0) {
+			return 0;
+		}
+		
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+		long seen = 0;
+		
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += this.counts[i];
+			
+			if (seen >= rank) {
+				return Math.min(LatencyHistogram.getUpperBound(i), this.max);
+			}
+		}
+		
+		return this.max;
+	}
+	
+	/**
+	 * Returns the bucket of the given value.
+	 * 
+	 * @param	value					Non-negative value
+	 * @return							Bucket index
+	 */
+	private static int getBucket(long value) {
+		if (value < LINEAR_BUCKETS) {
+			return (int) value;
+		}
+		
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		
+		return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+	
+	/**
+	 * Returns the highest value within the given bucket.
+	 * 
+	 * @param	bucket					Bucket index
+	 * @return							Highest value of the bucket
+	 */
+	private static long getUpperBound(int bucket) {
+		if (bucket < LINEAR_BUCKETS) {
+			return bucket;
+		}
+		
+		int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+		long subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+		
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
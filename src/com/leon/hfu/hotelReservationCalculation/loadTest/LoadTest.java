@@ -0,0 +1,343 @@
+package com.leon.hfu.hotelReservationCalculation.loadTest;
+
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import com.leon.hfu.customDate.Date;
+import com.leon.hfu.hotelReservationCalculation.ReservableObject;
+import com.leon.hfu.hotelReservationCalculation.Reservation;
+import com.leon.hfu.hotelReservationCalculation.ReservationException;
+import com.leon.hfu.hotelReservationCalculation.ReservationIndex;
+
+/**
+ * Runs a generated workload of book, cancel and quote operations from several threads against
+ * {@link ReservableObject} instances and reports throughput and latency percentiles per
+ * operation type. The report is written to a file, so reports of different versions can be
+ * compared with diff.
+ * Every thread first runs its share of a number of unmeasured warm-up operations, so class
+ * loading and JIT compilation don't show up in the reported percentiles. Measuring starts
+ * once all threads finished warming up.
+ * 
+ * @author	Stefan Hahn
+ * @see		WorkloadGenerator
+ */
+public final class LoadTest {
+	/**
+	 * Default amount of unmeasured warm-up operations
+	 */
+	public static final int DEFAULT_WARMUP_OPERATIONS = 100000;
+	
+	private int threads = 0;
+	private int objects = 0;
+	private int operations = 0;
+	private int warmupOperations = 0;
+	private long seed = 0;
+	private List<ReservableObject> inventory = null;
+	private Date[] arrivals = null;
+	
+	/**
+	 * Creates a new <code>LoadTest</code> with given parameters.
+	 * 
+	 * @param	threads					Amount of threads
+	 * @param	objects					Amount of objects within the inventory
+	 * @param	operations				Total amount of measured operations
+	 * @param	warmupOperations		Total amount of unmeasured warm-up operations
+	 * @param	seed					Seed of the workload
+	 */
+	public LoadTest(int threads, int objects, int operations, int warmupOperations, long seed) {
+		if (threads <= 0 || objects <= 0 || operations <= 0) {
+			throw new IllegalArgumentException("Threads, objects and operations must be greater then 0.");
+		}
+		
+		if (warmupOperations < 0) {
+			throw new IllegalArgumentException("Warm-up operations cannot be lower then 0.");
+		}
+		
+		this.threads = threads;
+		this.objects = objects;
+		this.operations = operations;
+		this.warmupOperations = warmupOperations;
+		this.seed = seed;
+	}
+	
+	/**
+	 * Creates a new <code>LoadTest</code> with default amount of warm-up operations.
+	 * 
+	 * @param	threads					Amount of threads
+	 * @param	objects					Amount of objects within the inventory
+	 * @param	operations				Total amount of measured operations
+	 * @param	seed					Seed of the workload
+	 */
+	public LoadTest(int threads, int objects, int operations, long seed) {
+		this(threads, objects, operations, DEFAULT_WARMUP_OPERATIONS, seed);
+	}
+	
+	/**
+	 * Starts the load test.
+	 * Parameters are the report file and optionally the amount of threads, objects,
+	 * operations, the seed and the amount of warm-up operations.
+	 * 
+	 * @param		args		Console parameters
+	 */
+	public static void main(String[] args) {
+		if (args.length < 1) {
+			System.err.println("Aufruf: LoadTest <Berichtsdatei> [Threads] [Objekte] [Operationen] [Seed] [Aufwärmoperationen]");
+			System.exit(1);
+		}
+		
+		try {
+			int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+			int objects = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+			int operations = args.length > 3 ? Integer.parseInt(args[3]) : 1000000;
+			long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+			int warmupOperations = args.length > 5 ? Integer.parseInt(args[5]) : DEFAULT_WARMUP_OPERATIONS;
+			
+			String report = new LoadTest(threads, objects, operations, warmupOperations, seed).run();
+			System.out.print(report);
+			
+			try (PrintWriter writer = new PrintWriter(args[0], "UTF-8")) {
+				writer.print(report);
+			}
+		}
+		catch (NumberFormatException | FileNotFoundException | InterruptedException | UnsupportedEncodingException e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+	
+	/**
+	 * Generates the workload, runs the warm-up and the measured operations and returns the report.
+	 * 
+	 * @return							Report text
+	 * @throws	InterruptedException	Thrown if interrupted while waiting for the worker threads
+	 */
+	public String run() throws InterruptedException {
+		WorkloadGenerator generator = new WorkloadGenerator(this.seed, 0.2, 0.35, 0.15);
+		this.inventory = generator.generateInventory(this.objects);
+		Operation[] stream = generator.generateOperations(this.warmupOperations + this.operations);
+		
+		Date today = Date.getCurrentDate();
+		this.arrivals = new Date[WorkloadGenerator.MAX_LEAD_TIME + 1];
+		
+		for (int i = 0; i < this.arrivals.length; i++) {
+			this.arrivals[i] = today.getFollowingDate(i);
+		}
+		
+		CountDownLatch warmedUp = new CountDownLatch(this.threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Worker> workers = new ArrayList<>();
+		List<Thread> workerThreads = new ArrayList<>();
+		
+		for (int i = 0; i < this.threads; i++) {
+			List<Operation> workerWarmupOperations = new ArrayList<>();
+			List<Operation> workerOperations = new ArrayList<>();
+			
+			for (int j = i; j < stream.length; j += this.threads) {
+				if (j < this.warmupOperations) {
+					workerWarmupOperations.add(stream[j]);
+				}
+				else {
+					workerOperations.add(stream[j]);
+				}
+			}
+			
+			Worker worker = new Worker(workerWarmupOperations, workerOperations, warmedUp, start);
+			workers.add(worker);
+			workerThreads.add(new Thread(worker, "LoadTest-" + i));
+		}
+		
+		for (Thread thread: workerThreads) {
+			thread.start();
+		}
+		
+		warmedUp.await();
+		
+		long startTime = System.nanoTime();
+		start.countDown();
+		
+		for (Thread thread: workerThreads) {
+			thread.join();
+		}
+		
+		long duration = System.nanoTime() - startTime;
+		String report = this.getReport(workers, duration);
+		
+		for (Worker worker: workers) {
+			worker.release();
+		}
+		
+		return report;
+	}
+	
+	/**
+	 * Merges the results of all workers into the report.
+	 * 
+	 * @param	workers					Finished workers
+	 * @param	duration				Wall time of the run in nanoseconds
+	 * @return							Report text
+	 */
+	private String getReport(List<Worker> workers, long duration) {
+		StringBuilder s = new StringBuilder();
+		LatencyHistogram total = new LatencyHistogram();
+		long totalSucceeded = 0;
+		
+		s.append(String.format(Locale.ROOT, "seed=%d threads=%d objects=%d warmup=%d operations=%d%n", this.seed, this.threads, this.objects, this.warmupOperations, this.operations));
+		s.append(String.format(Locale.ROOT, "duration_ms=%.1f%n", duration / 1e6));
+		s.append(String.format(Locale.ROOT, "%-8s %10s %10s %10s %10s %10s %10s %10s %10s%n", "type", "count", "succeeded", "rejected", "mean_us", "p50_us", "p99_us", "p999_us", "max_us"));
+		
+		for (Operation.Type type: Operation.Type.values()) {
+			LatencyHistogram histogram = new LatencyHistogram();
+			long succeeded = 0;
+			
+			for (Worker worker: workers) {
+				histogram.add(worker.histograms.get(type));
+				succeeded += worker.succeeded.get(type)[0];
+			}
+			
+			total.add(histogram);
+			totalSucceeded += succeeded;
+			s.append(LoadTest.formatLine(type.name(), histogram, succeeded));
+		}
+		
+		s.append(LoadTest.formatLine("TOTAL", total, totalSucceeded));
+		s.append(String.format(Locale.ROOT, "throughput_ops_per_s=%.1f%n", total.getCount() / (duration / 1e9)));
+		
+		return s.toString();
+	}
+	
+	/**
+	 * Formats a single report line.
+	 * 
+	 * @param	name					Name of the line
+	 * @param	histogram				Latencies
+	 * @param	succeeded				Amount of succeeded operations
+	 * @return							Formatted line
+	 */
+	private static String formatLine(String name, LatencyHistogram histogram, long succeeded) {
+		return String.format(Locale.ROOT, "%-8s %10d %10d %10d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+			name,
+			histogram.getCount(),
+			succeeded,
+			histogram.getCount() - succeeded,
+			histogram.getMean() / 1e3,
+			histogram.getPercentile(50) / 1e3,
+			histogram.getPercentile(99) / 1e3,
+			histogram.getPercentile(99.9) / 1e3,
+			histogram.getMax() / 1e3);
+	}
+	
+	/**
+	 * Runs the warm-up operations of a single thread, waits for the start of the measurement
+	 * and runs its measured operations while recording their latencies.
+	 */
+	private class Worker implements Runnable {
+		private List<Operation> warmupOperations = null;
+		private List<Operation> operations = null;
+		private CountDownLatch warmedUp = null;
+		private CountDownLatch start = null;
+		private List<Reservation> booked = new ArrayList<>();
+		private EnumMap<Operation.Type, LatencyHistogram> histograms = new EnumMap<>(Operation.Type.class);
+		private EnumMap<Operation.Type, long[]> succeeded = new EnumMap<>(Operation.Type.class);
+		
+		private Worker(List<Operation> warmupOperations, List<Operation> operations, CountDownLatch warmedUp, CountDownLatch start) {
+			this.warmupOperations = warmupOperations;
+			this.operations = operations;
+			this.warmedUp = warmedUp;
+			this.start = start;
+			
+			for (Operation.Type type: Operation.Type.values()) {
+				this.histograms.put(type, new LatencyHistogram());
+				this.succeeded.put(type, new long[1]);
+			}
+		}
+		
+		@Override
+		public void run() {
+			for (Operation operation: this.warmupOperations) {
+				this.execute(operation);
+			}
+			
+			this.warmedUp.countDown();
+			
+			try {
+				this.start.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			
+			for (Operation operation: this.operations) {
+				long startTime = System.nanoTime();
+				boolean success = this.execute(operation);
+				long latency = System.nanoTime() - startTime;
+				
+				this.histograms.get(operation.getType()).record(latency);
+				
+				if (success) {
+					this.succeeded.get(operation.getType())[0]++;
+				}
+			}
+		}
+		
+		/**
+		 * Cancels all reservations still booked by this worker, so they are released by
+		 * the global {@link ReservationIndex} once the inventory is discarded.
+		 */
+		private void release() {
+			List<UUID> ids = new ArrayList<>();
+			
+			for (Reservation reservation: this.booked) {
+				ids.add(reservation.getID());
+			}
+			
+			ReservationIndex.cancelAll(ids);
+			this.booked.clear();
+		}
+		
+		/**
+		 * Executes a single operation.
+		 * 
+		 * @param	operation				{@link Operation} object
+		 * @return							<code>true</code> if the operation succeeded
+		 */
+		private boolean execute(Operation operation) {
+			ReservableObject reservableObject = LoadTest.this.inventory.get(operation.getObjectIndex());
+			Date arrival = LoadTest.this.arrivals[operation.getLeadTime()];
+			
+			try {
+				switch (operation.getType()) {
+					case BOOK:
+						this.booked.add(new Reservation(arrival, operation.getNights(), operation.getPersons(), reservableObject));
+						return true;
+					case CANCEL:
+						if (this.booked.isEmpty()) {
+							return false;
+						}
+						
+						int index = (int) ((operation.getSelector() & Long.MAX_VALUE) % this.booked.size());
+						Reservation reservation = this.booked.get(index);
+						this.booked.set(index, this.booked.get(this.booked.size() - 1));
+						this.booked.remove(this.booked.size() - 1);
+						reservation.cancel();
+						return true;
+					case QUOTE:
+						reservableObject.quote(arrival, operation.getNights());
+						return true;
+					default:
+						return false;
+				}
+			}
+			catch (ReservationException e) {
+				return false;
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.leon.hfu.hotelReservationCalculation.loadTest;
+
+/**
+ * Represents a single generated operation of a load test workload.
+ * 
+ * @author	Stefan Hahn
+ * @see		WorkloadGenerator
+ */
+public class Operation {
+	/**
+	 * Kinds of operations.
+	 */
+	public enum Type {
+		/**
+		 * Books a new reservation
+		 */
+		BOOK,
+		
+		/**
+		 * Cancels a previously booked reservation
+		 */
+		CANCEL,
+		
+		/**
+		 * Requests a price quote without booking
+		 */
+		QUOTE
+	}
+	
+	private Type type = null;
+	private int objectIndex = 0;
+	private int leadTime = 0;
+	private int nights = 0;
+	private int persons = 0;
+	private long selector = 0;
+	
+	/**
+	 * Creates a new <code>Operation</code> with given parameters.
+	 * 
+	 * @param	type					Kind of this operation
+	 * @param	objectIndex				Index of the reserved object within the inventory
+	 * @param	leadTime				Days between today and arrival
+	 * @param	nights					Nights to sleep over
+	 * @param	persons					Persons
+	 * @param	selector				Random number selecting the reservation to cancel
+	 */
+	public Operation(Type type, int objectIndex, int leadTime, int nights, int persons, long selector) {
+		this.type = type;
+		this.objectIndex = objectIndex;
+		this.leadTime = leadTime;
+		this.nights = nights;
+		this.persons = persons;
+		this.selector = selector;
+	}
+	
+	/**
+	 * Gets the kind of this operation.
+	 * 
+	 * @return							Kind of this operation
+	 */
+	public Type getType() {
+		return this.type;
+	}
+	
+	/**
+	 * Gets the index of the reserved object within the inventory.
+	 * 
+	 * @return							Index of the reserved object
+	 */
+	public int getObjectIndex() {
+		return this.objectIndex;
+	}
+	
+	/**
+	 * Gets the days between today and arrival.
+	 * 
+	 * @return							Lead time in days
+	 */
+	public int getLeadTime() {
+		return this.leadTime;
+	}
+	
+	/**
+	 * Gets the nights to sleep over.
+	 * 
+	 * @return							Nights to sleep over
+	 */
+	public int getNights() {
+		return this.nights;
+	}
+	
+	/**
+	 * Gets the persons.
+	 * 
+	 * @return							Persons
+	 */
+	public int getPersons() {
+		return this.persons;
+	}
+	
+	/**
+	 * Gets the random number selecting the reservation to cancel.
+	 * 
+	 * @return							Selector
+	 */
+	public long getSelector() {
+		return this.selector;
+	}
+}
@@ -0,0 +1,151 @@
+package com.leon.hfu.hotelReservationCalculation.loadTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.leon.hfu.hotelReservationCalculation.MeetingRoom;
+import com.leon.hfu.hotelReservationCalculation.ReservableObject;
+import com.leon.hfu.hotelReservationCalculation.VacationHome;
+
+/**
+ * Generates a reproducible inventory and stream of {@link Operation} objects.
+ * Stay lengths of vacation homes cluster around a week, meeting rooms are mostly
+ * booked for one to three days. Lead times are exponentially distributed, so most
+ * bookings are made a few weeks ahead and some up to a year ahead.
+ * The same seed always generates the same inventory and operations.
+ * 
+ * @author	Stefan Hahn
+ */
+public class WorkloadGenerator {
+	/**
+	 * Maximum lead time in days
+	 */
+	public static final int MAX_LEAD_TIME = 365;
+	
+	/**
+	 * Mean lead time in days
+	 */
+	public static final double MEAN_LEAD_TIME = 45;
+	
+	private Random random = null;
+	private double meetingRoomShare = 0;
+	private double bookShare = 0;
+	private double cancelShare = 0;
+	private List<ReservableObject> inventory = null;
+	
+	/**
+	 * Creates a new <code>WorkloadGenerator</code> with given parameters.
+	 * 
+	 * @param	seed					Seed of the random number generator
+	 * @param	meetingRoomShare		Share of meeting rooms within the inventory
+	 * @param	bookShare				Share of book operations
+	 * @param	cancelShare				Share of cancel operations, the rest are quotes
+	 */
+	public WorkloadGenerator(long seed, double meetingRoomShare, double bookShare, double cancelShare) {
+		if (bookShare < 0 || cancelShare < 0 || bookShare + cancelShare > 1) {
+			throw new IllegalArgumentException("Operation shares must be between 0 and 1.");
+		}
+		
+		this.random = new Random(seed);
+		this.meetingRoomShare = meetingRoomShare;
+		this.bookShare = bookShare;
+		this.cancelShare = cancelShare;
+	}
+	
+	/**
+	 * Generates the inventory of {@link VacationHome} and {@link MeetingRoom} objects.
+	 * 
+	 * @param	size					Amount of objects
+	 * @return							Generated inventory
+	 */
+	public List<ReservableObject> generateInventory(int size) {
+		this.inventory = new ArrayList<>(size);
+		
+		for (int i = 0; i < size; i++) {
+			if (this.random.nextDouble() < this.meetingRoomShare) {
+				this.inventory.add(new MeetingRoom("Raum " + i, "Messeplatz " + i, 80 + this.random.nextInt(200), 10 + this.random.nextInt(190)));
+			}
+			else {
+				this.inventory.add(new VacationHome("Ferienwohnung " + i, "Sonnenweg " + i, 30 + this.random.nextInt(150), 1 + this.random.nextInt(8), 1 + this.random.nextInt(5)));
+			}
+		}
+		
+		return this.inventory;
+	}
+	
+	/**
+	 * Generates a stream of operations on the previously generated inventory.
+	 * 
+	 * @param	count					Amount of operations
+	 * @return							Generated operations
+	 */
+	public Operation[] generateOperations(int count) {
+		if (this.inventory == null || this.inventory.isEmpty()) {
+			throw new IllegalStateException("Inventory must be generated first.");
+		}
+		
+		Operation[] operations = new Operation[count];
+		
+		for (int i = 0; i < count; i++) {
+			double kind = this.random.nextDouble();
+			Operation.Type type = Operation.Type.QUOTE;
+			
+			if (kind < this.bookShare) {
+				type = Operation.Type.BOOK;
+			}
+			else if (kind < this.bookShare + this.cancelShare) {
+				type = Operation.Type.CANCEL;
+			}
+			
+			int objectIndex = this.random.nextInt(this.inventory.size());
+			ReservableObject reservableObject = this.inventory.get(objectIndex);
+			int nights = reservableObject instanceof MeetingRoom ? this.nextMeetingNights() : this.nextVacationNights();
+			int persons = 1 + this.random.nextInt(reservableObject.getMaxPersons());
+			
+			operations[i] = new Operation(type, objectIndex, this.nextLeadTime(), nights, persons, this.random.nextLong());
+		}
+		
+		return operations;
+	}
+	
+	/**
+	 * Returns an exponentially distributed lead time.
+	 * 
+	 * @return							Lead time in days
+	 */
+	private int nextLeadTime() {
+		int leadTime = (int) (-MEAN_LEAD_TIME * Math.log(1 - this.random.nextDouble()));
+		
+		return Math.min(leadTime, MAX_LEAD_TIME);
+	}
+	
+	/**
+	 * Returns a stay length of a vacation home, around a week and at most four weeks.
+	 * 
+	 * @return							Nights to sleep over
+	 */
+	private int nextVacationNights() {
+		int nights = (int) Math.round(7 + this.random.nextGaussian() * 3);
+		
+		return Math.max(1, Math.min(nights, 28));
+	}
+	
+	/**
+	 * Returns a stay length of a meeting room, mostly a single day.
+	 * 
+	 * @return							Nights to sleep over
+	 */
+	private int nextMeetingNights() {
+		double value = this.random.nextDouble();
+		
+		if (value < 0.6) {
+			return 1;
+		}
+		else if (value < 0.9) {
+			return 2;
+		}
+		
+		return 3;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * Contains a load test harness running generated workloads against the hotel reservation program.
+ * 
+ * @author	Stefan Hahn
+ */
+package com.leon.hfu.hotelReservationCalculation.loadTest;
@@ -0,0 +1,132 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Tests all-or-nothing booking and cancellation of a {@link GroupReservation}.
+ * 
+ * @author	Stefan Hahn
+ */
+public class GroupReservationTest {
+	private VacationHome vacationHome = new VacationHome("Abendruh", "Sonnenweg 3", 56.7, 4, 4);
+	private MeetingRoom meetingRoom = new MeetingRoom("Raum 1", "Sonnenweg 3", 120, 20);
+	private Date today = Date.getCurrentDate().getFollowingDate(1);
+	
+	@Test
+	public void failingLegLeavesNoLegBooked() throws ReservationException {
+		Reservation existing = new Reservation(this.today.getFollowingDate(2), 2, 1, this.meetingRoom);
+		GroupReservation group = new GroupReservation();
+		Reservation home = group.addLeg(this.today, 3, 2, this.vacationHome);
+		Reservation room = group.addLeg(this.today.getFollowingDate(3), 2, 2, this.meetingRoom);
+		
+		try {
+			group.book();
+			fail("Overlapping leg was booked.");
+		}
+		catch (ConcurrentReservationException e) { }
+		
+		assertFalse(group.isBooked());
+		assertTrue(this.vacationHome.getReservations().isEmpty());
+		assertEquals(1, this.meetingRoom.getReservations().size());
+		assertNull(ReservationIndex.find(home.getID()));
+		assertNull(ReservationIndex.find(room.getID()));
+		assertNotNull(ReservationIndex.find(existing.getID()));
+	}
+	
+	@Test
+	public void overlappingLegsOnSameObjectAreRejected() throws ReservationException {
+		GroupReservation group = new GroupReservation();
+		group.addLeg(this.today, 3, 2, this.vacationHome);
+		group.addLeg(this.today.getFollowingDate(2), 3, 2, this.vacationHome);
+		
+		try {
+			group.book();
+			fail("Overlapping legs were booked.");
+		}
+		catch (ConcurrentReservationException e) { }
+		
+		assertTrue(this.vacationHome.getReservations().isEmpty());
+	}
+	
+	@Test
+	public void cancelIsAllOrNothing() throws ReservationException {
+		GroupReservation group = new GroupReservation();
+		Reservation home = group.addLeg(this.today, 3, 2, this.vacationHome);
+		Reservation room = group.addLeg(this.today, 1, 2, this.meetingRoom);
+		group.book();
+		room.cancel();
+		
+		try {
+			group.cancel();
+			fail("Group with cancelled leg was cancelled.");
+		}
+		catch (ReservationException e) { }
+		
+		assertTrue(group.isBooked());
+		assertNotNull(ReservationIndex.find(home.getID()));
+		assertEquals(1, this.vacationHome.getReservations().size());
+	}
+	
+	@Test
+	public void concurrentGroupsInOppositeOrderDontDeadlock() throws InterruptedException {
+		final ReservableObject[] objects = { this.vacationHome, this.meetingRoom };
+		List<Thread> threads = new ArrayList<>();
+		
+		for (int i = 0; i < 4; i++) {
+			final int first = i % 2;
+			final Random random = new Random(i);
+			
+			threads.add(new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 500; j++) {
+						Date arrival = GroupReservationTest.this.today.getFollowingDate(random.nextInt(60));
+						int nights = 1 + random.nextInt(3);
+						
+						try {
+							GroupReservation group = new GroupReservation();
+							group.addLeg(arrival, nights, 1, objects[first]);
+							group.addLeg(arrival, nights, 1, objects[1 - first]);
+							group.book();
+						}
+						catch (ReservationException e) { }
+					}
+				}
+			}));
+		}
+		
+		for (Thread thread: threads) {
+			thread.start();
+		}
+		
+		for (Thread thread: threads) {
+			thread.join(10000);
+			assertFalse("Group bookings deadlocked.", thread.isAlive());
+		}
+		
+		assertEquals(this.vacationHome.getReservations().size(), this.meetingRoom.getReservations().size());
+		
+		for (ReservableObject object: objects) {
+			List<Reservation> reservations = new ArrayList<>(object.getReservations());
+			
+			for (int i = 0; i < reservations.size(); i++) {
+				for (int j = 0; j < i; j++) {
+					assertFalse(ReservableObject.overlaps(reservations.get(i), reservations.get(j)));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Tests caching and invalidation of price quotes of a {@link ReservableObject}.
+ * 
+ * @author	Stefan Hahn
+ */
+public class QuoteTest {
+	private VacationHome vacationHome = new VacationHome("Abendruh", "Sonnenweg 3", 56.7, 4, 4);
+	private Date today = Date.getCurrentDate().getFollowingDate(1);
+	
+	private double getAfterTaxPrice(double basePrice, int nights) throws ReservationException {
+		VacationHome vacationHome = new VacationHome("Abendruh", "Sonnenweg 3", basePrice, 4, 4);
+		
+		return new Reservation(this.today, nights, 1, vacationHome, false).getAfterTaxPrice();
+	}
+	
+	@Test
+	public void matchesReservationPrices() throws ReservationException {
+		Quote quote = this.vacationHome.quote(this.today, 5);
+		Reservation reservation = new Reservation(this.today, 5, 1, this.vacationHome);
+		
+		assertEquals(reservation.getPreTaxPrice(), quote.getPreTaxPrice(), 0);
+		assertEquals(reservation.getSalesTax(), quote.getSalesTax(), 0);
+		assertEquals(reservation.getDiscount(), quote.getDiscount(), 0);
+		assertEquals(reservation.getAfterTaxPrice(), quote.getAfterTaxPrice(), 0);
+	}
+	
+	@Test
+	public void reusesQuotesWithinEarlyBirdBucket() throws ReservationException {
+		Quote quote = this.vacationHome.quote(this.today, 3);
+		
+		assertSame(quote, this.vacationHome.quote(this.today.getFollowingDate(10), 3));
+		assertNotSame(quote, this.vacationHome.quote(this.today, 4));
+		assertNotSame(quote, this.vacationHome.quote(this.today.getFollowingDate(200), 3));
+	}
+	
+	@Test
+	public void invalidatesQuotesOnBasePriceChange() throws ReservationException {
+		Quote quote = this.vacationHome.quote(this.today, 3);
+		this.vacationHome.setBasePrice(80);
+		Quote newQuote = this.vacationHome.quote(this.today, 3);
+		
+		assertNotSame(quote, newQuote);
+		assertEquals(80, newQuote.getBasePrice(), 0);
+		assertEquals(this.getAfterTaxPrice(80, 3), newQuote.getAfterTaxPrice(), 0);
+	}
+	
+	@Test
+	public void neverMixesBasePrices() throws ReservationException, InterruptedException {
+		final AtomicBoolean running = new AtomicBoolean(true);
+		double lowPrice = this.getAfterTaxPrice(50, 7);
+		double highPrice = this.getAfterTaxPrice(90, 7);
+		this.vacationHome.setBasePrice(50);
+		
+		Thread priceChanger = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; running.get(); i++) {
+					QuoteTest.this.vacationHome.setBasePrice(i % 2 == 0 ? 50 : 90);
+				}
+			}
+		});
+		priceChanger.start();
+		
+		try {
+			for (int i = 0; i < 20000; i++) {
+				Quote quote = this.vacationHome.quote(this.today, 7);
+				
+				assertTrue(quote.getBasePrice() == 50 || quote.getBasePrice() == 90);
+				assertEquals(quote.getBasePrice() == 50 ? lowPrice : highPrice, quote.getAfterTaxPrice(), 0);
+			}
+		}
+		finally {
+			running.set(false);
+			priceChanger.join();
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Tests filling the waitlist of a {@link ReservableObject} on cancellation.
+ * 
+ * @author	Stefan Hahn
+ */
+public class ReservableObjectWaitlistTest {
+	private VacationHome vacationHome = new VacationHome("Abendruh", "Sonnenweg 3", 56.7, 4, 4);
+	private Date today = Date.getCurrentDate().getFollowingDate(1);
+	private List<WaitingReservation> booked = new ArrayList<>();
+	private List<WaitingReservation> expired = new ArrayList<>();
+	
+	private WaitlistListener listener = new WaitlistListener() {
+		@Override
+		public void reservationBooked(WaitingReservation request) {
+			ReservableObjectWaitlistTest.this.booked.add(request);
+		}
+		
+		@Override
+		public void reservationExpired(WaitingReservation request) {
+			ReservableObjectWaitlistTest.this.expired.add(request);
+		}
+	};
+	
+	private WaitlistListener failingListener = new WaitlistListener() {
+		@Override
+		public void reservationBooked(WaitingReservation request) {
+			throw new IllegalStateException("Listener failed");
+		}
+		
+		@Override
+		public void reservationExpired(WaitingReservation request) {
+			throw new IllegalStateException("Listener failed");
+		}
+	};
+	
+	private WaitingReservation waitlist(int arrival, int departure, int priority) throws ReservationException {
+		return this.vacationHome.waitlist(this.today.getFollowingDate(arrival), this.today.getFollowingDate(departure), 1, priority, this.listener);
+	}
+	
+	@Test
+	public void booksImmediatelyIfFree() throws ReservationException {
+		WaitingReservation request = this.waitlist(0, 3, 0);
+		
+		assertTrue(request.isBooked());
+		assertEquals(0, this.vacationHome.getWaitlistSize());
+		assertEquals(Arrays.asList(request), this.booked);
+	}
+	
+	@Test
+	public void booksByPriorityOnCancellation() throws ReservationException {
+		Reservation blocking = new Reservation(this.today, 10, 1, this.vacationHome);
+		new Reservation(this.today.getFollowingDate(20), 5, 1, this.vacationHome);
+		WaitingReservation low = this.waitlist(2, 5, 0);
+		WaitingReservation high = this.waitlist(3, 6, 5);
+		WaitingReservation later = this.waitlist(6, 8, 0);
+		WaitingReservation blocked = this.waitlist(21, 22, 9);
+		
+		assertEquals(4, this.vacationHome.getWaitlistSize());
+		assertTrue(this.booked.isEmpty());
+		
+		blocking.cancel();
+		
+		assertTrue(high.isBooked());
+		assertTrue(later.isBooked());
+		assertFalse(low.isBooked());
+		assertFalse(blocked.isBooked());
+		assertEquals(2, this.vacationHome.getWaitlistSize());
+		assertEquals(Arrays.asList(high, later), this.booked);
+	}
+	
+	@Test
+	public void booksOnBulkCancellation() throws ReservationException {
+		Reservation first = new Reservation(this.today, 2, 1, this.vacationHome);
+		Reservation second = new Reservation(this.today.getFollowingDate(2), 2, 1, this.vacationHome);
+		WaitingReservation request = this.waitlist(1, 3, 0);
+		
+		ReservationIndex.cancelAll(Arrays.asList(first.getID(), second.getID()));
+		
+		assertTrue(request.isBooked());
+		assertEquals(Arrays.asList(request), this.booked);
+	}
+	
+	@Test
+	public void skipsCancelledWaitingRequests() throws ReservationException {
+		Reservation blocking = new Reservation(this.today, 5, 1, this.vacationHome);
+		WaitingReservation request = this.waitlist(1, 3, 0);
+		
+		this.vacationHome.cancelWaiting(request);
+		blocking.cancel();
+		
+		assertFalse(request.isBooked());
+		assertTrue(this.booked.isEmpty());
+		assertEquals(0, this.vacationHome.getWaitlistSize());
+	}
+	
+	@Test
+	public void failingListenerDoesntStopCancellation() throws ReservationException {
+		Reservation blocking = new Reservation(this.today, 10, 1, this.vacationHome);
+		WaitingReservation failing = this.vacationHome.waitlist(this.today.getFollowingDate(1), this.today.getFollowingDate(3), 1, 5, this.failingListener);
+		WaitingReservation request = this.waitlist(4, 6, 0);
+		
+		blocking.cancel();
+		
+		assertTrue(failing.isBooked());
+		assertTrue(request.isBooked());
+		assertEquals(Arrays.asList(request), this.booked);
+		assertEquals(2, this.vacationHome.getReservations().size());
+	}
+	
+	@Test
+	public void failingListenerDoesntStopBulkCancellation() throws ReservationException {
+		MeetingRoom meetingRoom = new MeetingRoom("Raum 1", "Sonnenweg 3", 120, 20);
+		Reservation home = new Reservation(this.today, 3, 1, this.vacationHome);
+		Reservation room = new Reservation(this.today, 3, 1, meetingRoom);
+		WaitingReservation failing = this.vacationHome.waitlist(this.today, this.today.getFollowingDate(2), 1, 0, this.failingListener);
+		WaitingReservation request = meetingRoom.waitlist(this.today.getFollowingDate(1), this.today.getFollowingDate(2), 1, 0, this.listener);
+		
+		List<UUID> unknownIDs = ReservationIndex.cancelAll(Arrays.asList(home.getID(), room.getID()));
+		
+		assertTrue(unknownIDs.isEmpty());
+		assertTrue(failing.isBooked());
+		assertTrue(request.isBooked());
+		assertEquals(Arrays.asList(request), this.booked);
+		assertNull(ReservationIndex.find(home.getID()));
+		assertNull(ReservationIndex.find(room.getID()));
+	}
+	
+	@Test
+	public void notifiesGroupCancellationAfterReleasingLocks() throws ReservationException {
+		final MeetingRoom meetingRoom = new MeetingRoom("Raum 1", "Sonnenweg 3", 120, 20);
+		final List<Boolean> lockHeld = new ArrayList<>();
+		GroupReservation group = new GroupReservation();
+		group.addLeg(this.today, 3, 1, this.vacationHome);
+		group.addLeg(this.today, 3, 1, meetingRoom);
+		group.book();
+		
+		WaitingReservation request = meetingRoom.waitlist(this.today, this.today.getFollowingDate(1), 1, 0, new WaitlistListener() {
+			@Override
+			public void reservationBooked(WaitingReservation request) {
+				lockHeld.add(ReservableObjectWaitlistTest.this.vacationHome.getLock().isHeldByCurrentThread() || meetingRoom.getLock().isHeldByCurrentThread());
+			}
+			
+			@Override
+			public void reservationExpired(WaitingReservation request) { }
+		});
+		
+		group.cancel();
+		
+		assertTrue(request.isBooked());
+		assertEquals(Arrays.asList(false), lockHeld);
+	}
+	
+	@Test
+	public void expiresPassedRequestsOnArchival() throws ReservationException {
+		Reservation blocking = new Reservation(this.today, 10, 1, this.vacationHome);
+		WaitingReservation passed = this.waitlist(2, 4, 0);
+		WaitingReservation staying = this.waitlist(3, 12, 0);
+		WaitingReservation upcoming = this.waitlist(6, 8, 0);
+		
+		int archived = this.vacationHome.archiveDepartedReservations(ReservationArchiver.DEFAULT_BATCH_SIZE, this.today.getFollowingDate(5));
+		
+		assertEquals(0, archived);
+		assertTrue(passed.isExpired());
+		assertTrue(staying.isExpired());
+		assertFalse(upcoming.isExpired());
+		assertFalse(passed.isBooked());
+		assertEquals(Arrays.asList(passed, staying), this.expired);
+		assertEquals(1, this.vacationHome.getWaitlistSize());
+		
+		archived = this.vacationHome.archiveDepartedReservations(ReservationArchiver.DEFAULT_BATCH_SIZE, this.today.getFollowingDate(10));
+		
+		assertEquals(1, archived);
+		assertTrue(upcoming.isExpired());
+		assertEquals(0, this.vacationHome.getWaitlistSize());
+		assertEquals(Arrays.asList(blocking), this.vacationHome.getArchivedReservations());
+		assertTrue(this.booked.isEmpty());
+	}
+}
@@ -0,0 +1,62 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Tests lookup and cancellation by id through the {@link ReservationIndex}.
+ * 
+ * @author	Stefan Hahn
+ */
+public class ReservationIndexTest {
+	private VacationHome vacationHome = new VacationHome("Abendruh", "Sonnenweg 3", 56.7, 4, 4);
+	private MeetingRoom meetingRoom = new MeetingRoom("Raum 1", "Sonnenweg 3", 120, 20);
+	private Date today = Date.getCurrentDate().getFollowingDate(1);
+	
+	@Test
+	public void findsOnlyActiveReservations() throws ReservationException {
+		Reservation reservation = new Reservation(this.today, 2, 1, this.vacationHome);
+		
+		assertSame(reservation, ReservationIndex.find(reservation.getID()));
+		
+		reservation.cancel();
+		
+		assertNull(ReservationIndex.find(reservation.getID()));
+	}
+	
+	@Test
+	public void cancelsRepeatedIDsOnce() throws ReservationException {
+		Reservation home = new Reservation(this.today, 2, 1, this.vacationHome);
+		Reservation room = new Reservation(this.today, 1, 1, this.meetingRoom);
+		
+		List<UUID> unknownIDs = ReservationIndex.cancelAll(Arrays.asList(home.getID(), room.getID(), home.getID()));
+		
+		assertTrue(unknownIDs.isEmpty());
+		assertTrue(this.vacationHome.getReservations().isEmpty());
+		assertTrue(this.meetingRoom.getReservations().isEmpty());
+		assertNull(ReservationIndex.find(home.getID()));
+	}
+	
+	@Test
+	public void reportsUnknownIDsOnce() throws ReservationException {
+		Reservation home = new Reservation(this.today, 2, 1, this.vacationHome);
+		Reservation cancelled = new Reservation(this.today, 1, 1, this.meetingRoom);
+		UUID unknownID = UUID.randomUUID();
+		cancelled.cancel();
+		
+		List<UUID> unknownIDs = ReservationIndex.cancelAll(Arrays.asList(unknownID, home.getID(), cancelled.getID(), unknownID));
+		
+		assertEquals(Arrays.asList(unknownID, cancelled.getID()), unknownIDs);
+		assertTrue(this.vacationHome.getReservations().isEmpty());
+	}
+}
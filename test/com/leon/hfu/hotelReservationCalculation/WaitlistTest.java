@@ -0,0 +1,114 @@
+package com.leon.hfu.hotelReservationCalculation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.leon.hfu.customDate.Date;
+
+/**
+ * Tests the interval index of {@link Waitlist}.
+ * 
+ * @author	Stefan Hahn
+ */
+public class WaitlistTest {
+	private VacationHome vacationHome = new VacationHome("Abendruh", "Sonnenweg 3", 56.7, 4, 4);
+	private Date today = Date.getCurrentDate();
+	
+	private WaitingReservation createRequest(int arrival, int nights) throws ReservationException {
+		return new WaitingReservation(new Reservation(this.today.getFollowingDate(arrival), nights, 1, this.vacationHome, false), 0, null);
+	}
+	
+	@Test
+	public void findsStayingAndArrivingRequests() throws ReservationException {
+		Waitlist waitlist = new Waitlist();
+		WaitingReservation staying = this.createRequest(2, 5);
+		WaitingReservation arriving = this.createRequest(8, 2);
+		WaitingReservation departingOnArrival = this.createRequest(1, 4);
+		WaitingReservation arrivingOnDeparture = this.createRequest(10, 3);
+		waitlist.add(staying);
+		waitlist.add(arriving);
+		waitlist.add(departingOnArrival);
+		waitlist.add(arrivingOnDeparture);
+		
+		Set<WaitingReservation> found = new HashSet<>(waitlist.findOverlapping(this.today.getFollowingDate(5), this.today.getFollowingDate(10)));
+		
+		assertEquals(2, found.size());
+		assertTrue(found.contains(staying));
+		assertTrue(found.contains(arriving));
+	}
+	
+	@Test
+	public void matchesBruteForceAfterRandomUpdates() throws ReservationException {
+		Waitlist waitlist = new Waitlist();
+		Random random = new Random(1);
+		List<WaitingReservation> requests = new ArrayList<>();
+		
+		for (int i = 0; i < 2000; i++) {
+			WaitingReservation request = this.createRequest(random.nextInt(300), 1 + random.nextInt(20));
+			requests.add(request);
+			waitlist.add(request);
+		}
+		
+		for (int i = 0; i < 500; i++) {
+			assertTrue(waitlist.remove(requests.remove(random.nextInt(requests.size()))));
+		}
+		
+		assertEquals(requests.size(), waitlist.size());
+		
+		for (int i = 0; i < 200; i++) {
+			int start = random.nextInt(320);
+			Date arrival = this.today.getFollowingDate(start);
+			Date departure = this.today.getFollowingDate(start + 1 + random.nextInt(10));
+			Set<WaitingReservation> expected = new HashSet<>();
+			
+			for (WaitingReservation request: requests) {
+				if (request.getArrivalDate().compareTo(departure) < 0 && request.getDepartureDate().compareTo(arrival) > 0) {
+					expected.add(request);
+				}
+			}
+			
+			List<WaitingReservation> found = waitlist.findOverlapping(arrival, departure);
+			
+			assertEquals(expected.size(), found.size());
+			assertEquals(expected, new HashSet<>(found));
+		}
+	}
+	
+	@Test
+	public void removesOnlyKnownRequests() throws ReservationException {
+		Waitlist waitlist = new Waitlist();
+		WaitingReservation request = this.createRequest(3, 2);
+		waitlist.add(request);
+		
+		assertTrue(waitlist.remove(request));
+		assertFalse(waitlist.remove(request));
+		assertEquals(0, waitlist.size());
+		assertTrue(waitlist.findOverlapping(this.today, this.today.getFollowingDate(10)).isEmpty());
+	}
+	
+	@Test
+	public void removesRequestsArrivingBeforeDateUpToLimit() throws ReservationException {
+		Waitlist waitlist = new Waitlist();
+		
+		for (int i = 0; i < 10; i++) {
+			waitlist.add(this.createRequest(i, 3));
+		}
+		
+		List<WaitingReservation> removed = waitlist.removeArrivingBefore(this.today.getFollowingDate(5), 3);
+		
+		assertEquals(3, removed.size());
+		assertEquals(this.today.getFollowingDate(0), removed.get(0).getArrivalDate());
+		assertEquals(7, waitlist.size());
+		assertEquals(2, waitlist.removeArrivingBefore(this.today.getFollowingDate(5), 100).size());
+		assertEquals(5, waitlist.size());
+	}
+}